@@ -5,10 +5,16 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.xml.XMLConstants;
 import javax.xml.transform.stream.StreamSource;
@@ -19,7 +25,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 
@@ -34,6 +40,7 @@ public class AccessLogImportService {
 
     private final DocumentDailyAccessRepository repository;
     private final XmlMapper xmlMapper;
+    private final TransactionTemplate transactionTemplate;
 
     @Setter
     @Value("${batch.input-dir}")
@@ -81,7 +88,9 @@ public class AccessLogImportService {
             }
         }
 
-        persist(aggregatedCounts);
+        // One transaction for the whole run, so the inserts and updates go out as JDBC batches
+        // (a self-invoked @Transactional method would bypass the proxy)
+        transactionTemplate.executeWithoutResult(status -> persist(aggregatedCounts));
         log.info("Access log import finished");
     }
 
@@ -95,24 +104,39 @@ public class AccessLogImportService {
         });
     }
 
-    @Transactional
-    public void persist(Map<Key, AggregatedEntry> aggregated) {
+    private void persist(Map<Key, AggregatedEntry> aggregated) {
+        if (aggregated.isEmpty()) {
+            return;
+        }
+
+        // One query for the existing rows of all imported days instead of one per document and day
+        final Set<LocalDate> dates = aggregated.keySet().stream().map(Key::date).collect(Collectors.toSet());
+        final Map<Key, DocumentDailyAccess> existing = repository.findByAccessDateIn(dates).stream()
+                .collect(Collectors.toMap(entity -> new Key(entity.getDocumentId(), entity.getAccessDate()),
+                        Function.identity()));
+
+        final List<DocumentDailyAccess> created = new ArrayList<>();
         aggregated.forEach((key, payload) -> {
-            DocumentDailyAccess entity = repository
-                    .findByDocumentIdAndAccessDate(key.documentId(), key.date())
-                    .orElseGet(() -> DocumentDailyAccess.builder()
-                            .documentId(key.documentId())
-                            .accessDate(key.date())
-                            .accessCount(0)
-                            .createdAt(LocalDateTime.now())
-                            .build());
+            DocumentDailyAccess entity = existing.get(key);
+            if (entity == null) {
+                entity = DocumentDailyAccess.builder()
+                        .documentId(key.documentId())
+                        .accessDate(key.date())
+                        .accessCount(0)
+                        .createdAt(LocalDateTime.now())
+                        .build();
+                created.add(entity);
+            }
 
+            // Existing rows are managed: the changes are flushed as batched updates on commit
             entity.setAccessCount(entity.getAccessCount() + payload.count());
             if (payload.source() != null) {
                 entity.setSource(payload.source());
             }
-            repository.save(entity);
         });
+        repository.saveAll(created);
+        log.debug("Persisted {} new and {} updated daily access rows", created.size(),
+                aggregated.size() - created.size());
     }
 
     private record AggregatedEntry(int count, String source) {
@@ -140,6 +164,6 @@ public class AccessLogImportService {
         }
     }
 
-    private record Key(UUID documentId, java.time.LocalDate date) {
+    private record Key(UUID documentId, LocalDate date) {
     }
 }
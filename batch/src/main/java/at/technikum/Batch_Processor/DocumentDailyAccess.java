@@ -27,8 +27,9 @@ import lombok.Setter;
 @Builder
 public class DocumentDailyAccess {
 
+    // Generated in memory, so new rows need no database round trip and can be batched
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(name = "document_id", nullable = false)
@@ -3,6 +3,8 @@ package at.technikum.Batch_Processor;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +14,7 @@ public interface DocumentDailyAccessRepository
     Optional<DocumentDailyAccess> findByDocumentIdAndAccessDate(
             UUID documentId,
             LocalDate accessDate);
+
+    // Served by idx_document_daily_access_access_date
+    List<DocumentDailyAccess> findByAccessDateIn(Collection<LocalDate> accessDates);
 }
@@ -0,0 +1,14 @@
+-- Table as previously created by Hibernate; IF NOT EXISTS adopts existing databases
+CREATE TABLE IF NOT EXISTS document_daily_access (
+    id           UUID         NOT NULL PRIMARY KEY,
+    document_id  UUID         NOT NULL,
+    access_date  DATE         NOT NULL,
+    access_count INTEGER      NOT NULL,
+    source       VARCHAR(255),
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_document_daily_access_document_date UNIQUE (document_id, access_date)
+);
+
+-- findByDocumentIdAndAccessDate is served by the unique constraint above; this one covers
+-- per-day reports across all documents
+CREATE INDEX IF NOT EXISTS idx_document_daily_access_access_date ON document_daily_access (access_date);
@@ -0,0 +1,40 @@
+package at.technikum.restapi.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SEARCH_RESULTS = "searchResults";
+
+    @Value("${SEARCH_CACHE_MAX_ENTRIES:1000}")
+    private long searchCacheMaxEntries;
+
+    @Value("${SEARCH_CACHE_TTL:PT30S}")
+    private Duration searchCacheTtl;
+
+    // Short TTL instead of evicting on every index write: a busy pipeline writes to the index
+    // several times per document, which kept the hit rate near zero. Stats feed the
+    // cache.gets/puts/evictions metrics; transaction-aware so the remaining evictions (user edits,
+    // deletes, category changes) only happen once the database transaction has committed
+    @Bean
+    CacheManager cacheManager() {
+        final CaffeineCacheManager cacheManager = new CaffeineCacheManager(SEARCH_RESULTS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(searchCacheMaxEntries)
+                .expireAfterWrite(searchCacheTtl)
+                .recordStats());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,46 @@
+package at.technikum.restapi.config;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.postprocessor.DelegatingDecompressingPostProcessor;
+import org.springframework.amqp.support.postprocessor.GZipPostProcessor;
+
+/**
+ * Wraps the JSON converter and gzips bodies of at least {@code minBytes}, declared as
+ * content-encoding {@code gzip:UTF-8}. Incoming messages are inflated according to their
+ * content-encoding, so compressed and plain messages from the workers are both accepted.
+ * Small bodies stay plain: below a few KB, gzip saves little and costs a header plus CPU.
+ */
+public class CompressingMessageConverter implements MessageConverter {
+
+    private final MessageConverter delegate;
+    private final int minBytes;
+    private final GZipPostProcessor compressor = new GZipPostProcessor();
+    private final DelegatingDecompressingPostProcessor decompressor = new DelegatingDecompressingPostProcessor();
+
+    public CompressingMessageConverter(final MessageConverter delegate, final int minBytes) {
+        this.delegate = delegate;
+        this.minBytes = minBytes;
+    }
+
+    @Override
+    public Message toMessage(final Object object, final MessageProperties messageProperties)
+            throws MessageConversionException {
+        final Message message = delegate.toMessage(object, messageProperties);
+        if (message.getBody().length < minBytes) {
+            return message;
+        }
+        return compressor.postProcessMessage(message);
+    }
+
+    @Override
+    public Object fromMessage(final Message message) throws MessageConversionException {
+        final String encoding = message.getMessageProperties().getContentEncoding();
+        if (encoding == null || !encoding.startsWith("gzip")) {
+            return delegate.fromMessage(message);
+        }
+        return delegate.fromMessage(decompressor.postProcessMessage(message));
+    }
+}
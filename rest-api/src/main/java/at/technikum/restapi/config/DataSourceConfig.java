@@ -0,0 +1,51 @@
+package at.technikum.restapi.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+@Profile("high-throughput")
+public class DataSourceConfig {
+
+    static final String LISTENER_MAX_CONCURRENCY = "spring.rabbitmq.listener.simple.max-concurrency";
+
+    // OCR and GenAI responses, each consumed by up to max-concurrency listener threads
+    private static final int RESPONSE_QUEUES = 2;
+
+    // Every response listener thread holds a connection for the length of its transaction, so the
+    // pool follows the listener concurrency plus DB_POOL_HEADROOM for HTTP requests, the sweeper
+    // and the purge jobs. DB_POOL_SIZE still overrides the computed size.
+    // Runs after spring.datasource.hikari.* has been bound to the pool.
+    @Bean
+    static BeanPostProcessor listenerSizedConnectionPool(final Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    final int poolSize = poolSize(environment);
+                    dataSource.setMaximumPoolSize(poolSize);
+                    log.info("Sized connection pool '{}' to {} connections", beanName, poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static int poolSize(final Environment environment) {
+        final Integer configured = environment.getProperty("DB_POOL_SIZE", Integer.class);
+        if (configured != null) {
+            return configured;
+        }
+        final int maxConcurrency = environment.getProperty(LISTENER_MAX_CONCURRENCY, Integer.class, 1);
+        final int headroom = environment.getProperty("DB_POOL_HEADROOM", Integer.class, 10);
+        return RESPONSE_QUEUES * maxConcurrency + headroom;
+    }
+}
@@ -0,0 +1,58 @@
+package at.technikum.restapi.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${BULK_UPLOAD_CONCURRENCY:8}")
+    private int bulkUploadConcurrency;
+
+    @Value("${PIPELINE_FANOUT_CONCURRENCY:8}")
+    private int pipelineFanOutConcurrency;
+
+    @Value("${PIPELINE_FANOUT_QUEUE_CAPACITY:200}")
+    private int pipelineFanOutQueueCapacity;
+
+    // Bounded pool for concurrent MinIO writes during bulk uploads
+    @Bean
+    ThreadPoolTaskExecutor bulkUploadExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(bulkUploadConcurrency);
+        executor.setMaxPoolSize(bulkUploadConcurrency);
+        executor.setThreadNamePrefix("bulk-upload-");
+        return executor;
+    }
+
+    // Single background thread for the CPU-bound embedding batches, off the RabbitMQ listener
+    // threads (the model itself parallelizes each batch across cores)
+    @Bean
+    ThreadPoolTaskExecutor embeddingExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("embedding-");
+        return executor;
+    }
+
+    // Post-commit pipeline steps (Elasticsearch writes, GenAI publishes) of worker responses.
+    // When the queue is full the listener thread runs the step itself, which throttles consumption
+    // instead of buffering documents with their full OCR text in memory.
+    @Bean
+    ThreadPoolTaskExecutor pipelineExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pipelineFanOutConcurrency);
+        executor.setMaxPoolSize(pipelineFanOutConcurrency);
+        executor.setQueueCapacity(pipelineFanOutQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setThreadNamePrefix("pipeline-");
+        return executor;
+    }
+}
@@ -0,0 +1,61 @@
+package at.technikum.restapi.config;
+
+import java.io.IOException;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJackson2MessageConverter;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+/**
+ * Binary counterpart of the JSON converter: the same DTOs and {@code @JsonProperty} names,
+ * encoded as CBOR (RFC 8949). Text fields are copied as length-prefixed byte strings instead
+ * of being escaped and scanned, and numbers and field headers are binary.
+ */
+public class Jackson2CborMessageConverter extends AbstractJackson2MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/cbor";
+
+    public Jackson2CborMessageConverter() {
+        super(new CBORMapper(), MimeType.valueOf(CONTENT_TYPE), "*");
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    // The base class decodes the body into a String before handing it to the mapper, which a
+    // binary format cannot be parsed from, so CBOR bodies are read straight from the bytes
+    @Override
+    public Object fromMessage(final Message message, final Object conversionHint) {
+        final MessageProperties properties = message.getMessageProperties();
+        if (properties == null || !isCbor(properties.getContentType())) {
+            return super.fromMessage(message, conversionHint);
+        }
+
+        final JavaType targetType = resolveTargetType(properties);
+        try {
+            return objectMapper.readValue(message.getBody(), targetType);
+        } catch (final IOException e) {
+            throw new MessageConversionException("Failed to convert CBOR message content", e);
+        }
+    }
+
+    private JavaType resolveTargetType(final MessageProperties properties) {
+        final var inferredType = properties.getInferredArgumentType();
+        final boolean hasTypeId = properties.getHeaders().containsKey(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        if (inferredType != null
+                && (getTypePrecedence() == Jackson2JavaTypeMapper.TypePrecedence.INFERRED || !hasTypeId)) {
+            return objectMapper.constructType(inferredType);
+        }
+        return getJavaTypeMapper().toJavaType(properties);
+    }
+
+    private boolean isCbor(final String contentType) {
+        return contentType != null && MimeType.valueOf(contentType).isCompatibleWith(getSupportedContentType());
+    }
+}
@@ -1,12 +1,28 @@
 package at.technikum.restapi.config;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +33,9 @@ import lombok.Getter;
 @Configuration
 public class RabbitConfig {
 
+    public static final String RETRY_QUEUE_SUFFIX = ".retry";
+    public static final String DEAD_LETTER_QUEUE_SUFFIX = ".dlq";
+
     @Value("${EXCHANGE:documents.operations}")
     private String exchange;
 
@@ -44,6 +63,54 @@ public class RabbitConfig {
     @Value("${GENAI_ROUTING_KEY_RESPONSE:documents.genai.response}")
     private String genaiRoutingKeyResponse;
 
+    @Value("${DEAD_LETTER_EXCHANGE:documents.operations.dlx}")
+    private String deadLetterExchange;
+
+    // Response listener retry policy (delayed requeue through the *.retry.<delay> wait queues)
+    @Value("${RESPONSE_RETRY_MAX_ATTEMPTS:5}")
+    private int responseRetryMaxAttempts;
+
+    @Value("${RESPONSE_RETRY_INITIAL_DELAY_MS:1000}")
+    private long responseRetryInitialDelayMs;
+
+    @Value("${RESPONSE_RETRY_MAX_DELAY_MS:60000}")
+    private long responseRetryMaxDelayMs;
+
+    // JSON bodies of at least this size are sent gzip-compressed (OCR text, GenAI requests)
+    @Value("${RABBITMQ_COMPRESS_MIN_BYTES:16384}")
+    private int compressMinBytes;
+
+    // json or cbor; both are always accepted on receive
+    @Value("${RABBITMQ_WIRE_FORMAT:json}")
+    private String wireFormat;
+
+    public String getOcrResponseDeadLetterQueue() {
+        return ocrResponseQueue + DEAD_LETTER_QUEUE_SUFFIX;
+    }
+
+    public String getGenaiResponseDeadLetterQueue() {
+        return genaiResponseQueue + DEAD_LETTER_QUEUE_SUFFIX;
+    }
+
+    // Distinct delays of all retry attempts; each one gets its own wait queue
+    public List<Long> getResponseRetryDelays() {
+        return IntStream.rangeClosed(1, responseRetryMaxAttempts)
+                .mapToObj(attempt -> retryDelayMs(attempt, responseRetryInitialDelayMs, responseRetryMaxDelayMs))
+                .distinct()
+                .toList();
+    }
+
+    // Exponential backoff starting at initialDelayMs and capped at maxDelayMs
+    public static long retryDelayMs(final int attempt, final long initialDelayMs, final long maxDelayMs) {
+        // Cap the shift so large attempt counts cannot overflow
+        final long delay = initialDelayMs << Math.min(attempt - 1, 30);
+        return delay <= 0 ? maxDelayMs : Math.min(delay, maxDelayMs);
+    }
+
+    public static String retryQueueName(final String queue, final long delayMs) {
+        return queue + RETRY_QUEUE_SUFFIX + "." + delayMs;
+    }
+
     @Bean
     TopicExchange documentsExchange() {
         return new TopicExchange(exchange);
@@ -93,16 +160,91 @@ public class RabbitConfig {
         return BindingBuilder.bind(genaiResponseQueue).to(documentsExchange).with(genaiRoutingKeyResponse);
     }
 
+    // Dead-letter exchange: failed responses are routed by the name of the queue they came from
     @Bean
-    Jackson2JsonMessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+    DirectExchange deadLetterExchange() {
+        return new DirectExchange(deadLetterExchange);
+    }
+
+    @Bean
+    Queue ocrResponseDeadLetterQueue() {
+        return QueueBuilder.durable(getOcrResponseDeadLetterQueue()).build();
+    }
+
+    @Bean
+    Queue genaiResponseDeadLetterQueue() {
+        return QueueBuilder.durable(getGenaiResponseDeadLetterQueue()).build();
+    }
+
+    @Bean
+    Binding ocrResponseDeadLetterBinding(final Queue ocrResponseDeadLetterQueue,
+            final DirectExchange deadLetterExchange) {
+        return BindingBuilder.bind(ocrResponseDeadLetterQueue).to(deadLetterExchange).with(ocrResponseQueue);
+    }
+
+    @Bean
+    Binding genaiResponseDeadLetterBinding(final Queue genaiResponseDeadLetterQueue,
+            final DirectExchange deadLetterExchange) {
+        return BindingBuilder.bind(genaiResponseDeadLetterQueue).to(deadLetterExchange).with(genaiResponseQueue);
+    }
+
+    // Retry wait queues: no consumers, messages sit here until the queue TTL expires and are
+    // then dead-lettered through the default exchange back onto the response queue. One queue
+    // per delay tier, because RabbitMQ only expires messages at the head of a queue: with
+    // per-message TTLs in a shared queue, a 60 s retry would hold back every 1 s retry behind it.
+    @Bean
+    Declarables responseRetryQueues() {
+        final List<Declarable> queues = new ArrayList<>();
+        for (final String queue : List.of(ocrResponseQueue, genaiResponseQueue)) {
+            for (final long delay : getResponseRetryDelays()) {
+                queues.add(QueueBuilder.durable(retryQueueName(queue, delay))
+                        .ttl(Math.toIntExact(delay))
+                        .deadLetterExchange("")
+                        .deadLetterRoutingKey(queue)
+                        .build());
+            }
+        }
+        return new Declarables(queues);
+    }
+
+    // Incoming messages are decoded by their content_type, outgoing ones use RABBITMQ_WIRE_FORMAT
+    @Bean
+    MessageConverter messageConverter() {
+        final MessageConverter json = new Jackson2JsonMessageConverter();
+        final MessageConverter cbor = new Jackson2CborMessageConverter();
+        final MessageConverter outgoing = switch (wireFormat.toLowerCase(Locale.ROOT)) {
+            case "json" -> json;
+            case "cbor" -> cbor;
+            default -> throw new IllegalStateException("Unsupported RABBITMQ_WIRE_FORMAT: " + wireFormat);
+        };
+
+        final ContentTypeDelegatingMessageConverter negotiating = new ContentTypeDelegatingMessageConverter(outgoing);
+        negotiating.addDelegate(MessageProperties.CONTENT_TYPE_JSON, json);
+        negotiating.addDelegate(Jackson2CborMessageConverter.CONTENT_TYPE, cbor);
+        return new CompressingMessageConverter(negotiating, compressMinBytes);
     }
 
     @Bean
     RabbitTemplate rabbitTemplate(final ConnectionFactory connectionFactory,
-            final Jackson2JsonMessageConverter messageConverter) {
+            final MessageConverter messageConverter) {
         final RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(messageConverter);
         return rabbitTemplate;
     }
+
+    // Listener failures are never retried in-memory (that would block the consumer);
+    // the recoverer either schedules a delayed requeue or dead-letters the message.
+    @Bean
+    SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
+            final SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            final ConnectionFactory connectionFactory,
+            final MessageRecoverer responseRetryRecoverer) {
+        final SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(1)
+                .recoverer(responseRetryRecoverer)
+                .build());
+        return factory;
+    }
 }
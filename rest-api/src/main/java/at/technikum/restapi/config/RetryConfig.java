@@ -0,0 +1,33 @@
+package at.technikum.restapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.support.RetryTemplate;
+
+@Configuration
+public class RetryConfig {
+
+    @Value("${OPTIMISTIC_LOCK_MAX_ATTEMPTS:4}")
+    private int optimisticLockMaxAttempts;
+
+    @Value("${OPTIMISTIC_LOCK_INITIAL_DELAY_MS:20}")
+    private long optimisticLockInitialDelayMs;
+
+    @Value("${OPTIMISTIC_LOCK_MAX_DELAY_MS:500}")
+    private long optimisticLockMaxDelayMs;
+
+    // Re-runs a whole read-modify-write transaction when a concurrent writer bumped the document
+    // version first. Jittered so two colliding writers do not collide again on the next attempt.
+    // Causes are traversed because the service layer wraps persistence errors.
+    @Bean
+    RetryTemplate optimisticLockRetryTemplate() {
+        return RetryTemplate.builder()
+                .maxAttempts(optimisticLockMaxAttempts)
+                .exponentialBackoff(optimisticLockInitialDelayMs, 2.0, optimisticLockMaxDelayMs, true)
+                .retryOn(OptimisticLockingFailureException.class)
+                .traversingCauses()
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package at.technikum.restapi.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import at.technikum.restapi.service.DeadLetterService;
+import at.technikum.restapi.service.dto.DeadLetterQueueDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/dead-letters")
+@RequiredArgsConstructor
+public class DeadLetterController {
+
+    private final DeadLetterService service;
+
+    @GetMapping
+    public ResponseEntity<List<DeadLetterQueueDto>> getAll() {
+        log.debug("Fetching dead-letter queue statistics");
+        return ResponseEntity.ok(service.getQueues());
+    }
+
+    @PostMapping("/{name}/replay")
+    public ResponseEntity<Map<String, Object>> replay(@PathVariable final String name,
+            @RequestParam(defaultValue = "100") final int limit) {
+        log.info("Received dead-letter replay request: queue={}, limit={}", name, limit);
+        final int replayed = service.replay(name, limit);
+        final var remaining = service.getQueue(name).messageCount();
+        return ResponseEntity.ok(Map.of("queue", name, "replayed", replayed, "remaining", remaining));
+    }
+}
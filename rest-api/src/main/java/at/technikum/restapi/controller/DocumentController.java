@@ -9,6 +9,7 @@ import java.util.UUID;
 
 import at.technikum.restapi.service.dto.WorkerStatusDto;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -23,11 +24,20 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import at.technikum.restapi.service.DocumentService;
+import at.technikum.restapi.service.DocumentStatusStreamService;
 import at.technikum.restapi.service.MinioService;
+import at.technikum.restapi.service.dto.BulkUploadResultDto;
 import at.technikum.restapi.service.dto.DocumentDetailDto;
 import at.technikum.restapi.service.dto.DocumentSummaryDto;
+import at.technikum.restapi.service.dto.FacetedSearchRequestDto;
+import at.technikum.restapi.service.dto.FacetedSearchResultDto;
+import at.technikum.restapi.service.dto.SearchPageDto;
+import at.technikum.restapi.service.dto.SearchPageRequestDto;
+import at.technikum.restapi.service.dto.SearchSort;
+import at.technikum.restapi.service.dto.SimilarDocumentDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,6 +49,7 @@ public class DocumentController {
 
     private final DocumentService service;
     private final MinioService minioService;
+    private final DocumentStatusStreamService statusStreamService;
 
     // File size threshold: 10MB
     private static final long STREAM_SIZE_THRESHOLD = 10 * 1024 * 1024; // 10MB
@@ -53,6 +64,27 @@ public class DocumentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedDto);
     }
 
+    @PostMapping(value = "/bulk", consumes = "multipart/form-data")
+    public ResponseEntity<BulkUploadResultDto> bulkUpload(@RequestParam final List<MultipartFile> files,
+            @RequestParam(required = false) final List<String> categoryIds) {
+        log.info("Received bulk upload request: Files={}, Categories={}", files.size(), categoryIds);
+        final List<String> safeCategoryIds = categoryIds != null ? categoryIds : Collections.emptyList();
+        final var result = service.bulkUpload(files, safeCategoryIds);
+        // 207 when only part of the batch could be stored
+        final HttpStatus status = result.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(result);
+    }
+
+    @PostMapping(value = "/archive", consumes = "multipart/form-data")
+    public ResponseEntity<BulkUploadResultDto> uploadArchive(@RequestParam final MultipartFile file,
+            @RequestParam(required = false) final List<String> categoryIds) {
+        log.info("Received archive upload request: Archive={}, Categories={}", file.getOriginalFilename(), categoryIds);
+        final List<String> safeCategoryIds = categoryIds != null ? categoryIds : Collections.emptyList();
+        final var result = service.uploadArchive(file, safeCategoryIds);
+        final HttpStatus status = result.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(result);
+    }
+
     @GetMapping
     public ResponseEntity<List<DocumentSummaryDto>> getAll() {
         log.debug("Fetching all documents");
@@ -71,6 +103,62 @@ public class DocumentController {
         return ResponseEntity.ok(result);
     }
 
+    @GetMapping("/search/faceted")
+    public ResponseEntity<FacetedSearchResultDto> facetedSearch(
+            @RequestParam(name = "q", required = false) final String query,
+            @RequestParam(required = false) final List<String> categories,
+            @RequestParam(required = false) final List<String> contentTypes,
+            @RequestParam(required = false) final List<String> statuses,
+            @RequestParam(defaultValue = "0") final int page,
+            @RequestParam(defaultValue = "20") final int size) {
+        log.info("Received faceted search request: q='{}', categories={}, contentTypes={}, statuses={}",
+                query, categories, contentTypes, statuses);
+        final var request = FacetedSearchRequestDto.builder()
+                .query(query)
+                .categories(categories)
+                .contentTypes(contentTypes)
+                .processingStatuses(statuses)
+                .page(page)
+                .size(size)
+                .build();
+        return ResponseEntity.ok(service.facetedSearch(request));
+    }
+
+    // Lexical and semantic (embedding) ranking fused; falls back to lexical only without embeddings
+    @GetMapping("/search/hybrid")
+    public ResponseEntity<List<DocumentSummaryDto>> hybridSearch(
+            @RequestParam(name = "q") final String query,
+            @RequestParam(defaultValue = "20") final int size) {
+        log.info("Received hybrid search request: q='{}', size={}", query, size);
+        return ResponseEntity.ok(service.hybridSearch(query, size));
+    }
+
+    @GetMapping("/search/suggest")
+    public ResponseEntity<List<String>> suggest(@RequestParam final String prefix) {
+        return ResponseEntity.ok(service.suggest(prefix));
+    }
+
+    @GetMapping("/search/page")
+    public ResponseEntity<SearchPageDto> searchPage(
+            @RequestParam(name = "q", required = false) final String query,
+            @RequestParam(required = false) final List<String> categories,
+            @RequestParam(defaultValue = "RELEVANCE") final SearchSort sort,
+            @RequestParam(defaultValue = "DESC") final Sort.Direction direction,
+            @RequestParam(defaultValue = "20") final int size,
+            @RequestParam(required = false) final String cursor) {
+        log.info("Received paginated search request: q='{}', categories={}, sort={} {}, size={}",
+                query, categories, sort, direction, size);
+        final var request = SearchPageRequestDto.builder()
+                .query(query)
+                .categories(categories)
+                .sort(sort)
+                .direction(direction)
+                .size(size)
+                .cursor(cursor)
+                .build();
+        return ResponseEntity.ok(service.searchPage(request));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<DocumentDetailDto> getById(@PathVariable final UUID id) {
         log.debug("Fetching document with ID={}", id);
@@ -78,6 +166,18 @@ public class DocumentController {
         return ResponseEntity.ok(document);
     }
 
+    @GetMapping("/status")
+    public ResponseEntity<List<WorkerStatusDto>> getStatuses(@RequestParam final List<UUID> ids) {
+        log.debug("Fetching processing status for {} documents", ids.size());
+        return ResponseEntity.ok(service.getWorkerStatuses(ids));
+    }
+
+    @GetMapping(value = "/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatus(@RequestParam final List<UUID> ids) {
+        log.debug("Opening status stream for {} documents", ids.size());
+        return statusStreamService.subscribe(ids);
+    }
+
     @GetMapping("/{id}/status")
     public ResponseEntity<WorkerStatusDto> getOcrStatus(@PathVariable final UUID id) {
         log.debug("Fetching OCR status for document ID={}", id);
@@ -85,6 +185,24 @@ public class DocumentController {
         return ResponseEntity.ok(statusDto);
     }
 
+    // Documents whose OCR text overlaps, most similar first. Candidates come from the LSH buckets,
+    // which find about 80% of the documents at 0.75 similarity but only 6% at 0.5
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarDocumentDto>> findSimilar(@PathVariable final UUID id,
+            @RequestParam(defaultValue = "0.75") final double minSimilarity,
+            @RequestParam(defaultValue = "10") final int limit) {
+        log.debug("Fetching documents similar to ID={} (minSimilarity={})", id, minSimilarity);
+        return ResponseEntity.ok(service.findSimilar(id, minSimilarity, limit));
+    }
+
+    // Re-scans and copies of the same document
+    @GetMapping("/{id}/duplicates")
+    public ResponseEntity<List<SimilarDocumentDto>> findDuplicates(@PathVariable final UUID id,
+            @RequestParam(defaultValue = "10") final int limit) {
+        log.debug("Fetching possible duplicates of document ID={}", id);
+        return ResponseEntity.ok(service.findDuplicates(id, limit));
+    }
+
     @GetMapping("/{id}/download")
     public ResponseEntity<?> downloadDocument(@PathVariable final UUID id) {
         log.info("Download request for document ID={}", id);
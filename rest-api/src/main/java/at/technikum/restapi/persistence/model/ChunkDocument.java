@@ -0,0 +1,31 @@
+package at.technikum.restapi.persistence.model;
+
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.KnnAlgorithmType;
+import org.springframework.data.elasticsearch.annotations.KnnIndexOptions;
+import org.springframework.data.elasticsearch.annotations.KnnSimilarity;
+import org.springframework.data.elasticsearch.annotations.Setting;
+
+import lombok.Builder;
+
+/**
+ * Embedding of one OCR text chunk. Kept in its own index so the full-document writes to
+ * {@link SearchDocument} never drop the vectors; the chunk text itself is not stored.
+ */
+@Builder
+@Document(indexName = "document_chunks")
+@Setting(shards = 1, replicas = 0)
+public record ChunkDocument(
+        @Id String id, // <documentId>_<chunk>
+        @Field(type = FieldType.Keyword) UUID documentId,
+        @Field(type = FieldType.Integer) Integer chunk,
+        // 384 = output size of the MiniLM sentence-transformer models; HNSW graph for approximate kNN
+        @Field(type = FieldType.Dense_Vector, dims = 384, knnSimilarity = KnnSimilarity.COSINE,
+                knnIndexOptions = @KnnIndexOptions(type = KnnAlgorithmType.HNSW, m = 16, efConstruction = 100))
+        float[] vector) {
+}
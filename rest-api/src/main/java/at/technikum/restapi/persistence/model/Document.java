@@ -5,9 +5,13 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.LazyGroup;
 
 import jakarta.persistence.Basic;
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -16,22 +20,30 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
+@DynamicUpdate
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "documents")
+@Table(name = "documents", indexes = {
+        // Drives the stuck-document sweeper: in-flight status + age range scan
+        @Index(name = "idx_documents_status_created_at", columnList = "processing_status, created_at")
+})
 public class Document {
 
     public enum ProcessingStatus {
@@ -44,10 +56,19 @@ public class Document {
         GENAI_FAILED // OCR succeeded, but GenAI failed (partial failure)
     }
 
+    // Generated in memory (no sequence or identity round trip), so inserts can be batched
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    // Optimistic locking: a user edit racing a worker result fails and is retried instead of
+    // silently overwriting it. @DynamicUpdate keeps each UPDATE to the columns that changed.
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
     @Column(nullable = false)
     private String title;
 
@@ -73,21 +94,22 @@ public class Document {
     @Builder.Default
     private ProcessingStatus processingStatus = ProcessingStatus.PENDING;
 
-    // LAZY: Large text field - only for detail view/ElasticSearch backup
-    @Lob
-    @Basic(fetch = FetchType.LAZY)
-    @Column(columnDefinition = "TEXT")
-    private String ocrText;
-
-    // LAZY: Large text field - only for detail view
-    @Lob
-    @Basic(fetch = FetchType.LAZY)
-    @Column(columnDefinition = "TEXT")
-    private String summaryText;
-
-    // LAZY: Only needed when there's an error
+    // LAZY (needs bytecode enhancement, see pom.xml): OCR and summary text live in
+    // document_content, so status/title/category updates only rewrite this narrow row.
+    // Excluded from toString/equals/hashCode so it never triggers a load.
+    // No MERGE cascade: merging a detached document would have to load the content to cascade into it.
+    @OneToOne(mappedBy = "document", fetch = FetchType.LAZY,
+            cascade = { CascadeType.PERSIST, CascadeType.REMOVE }, orphanRemoval = true)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private DocumentContent content;
+
+    // LAZY (needs bytecode enhancement): Only needed when there's an error
     @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("processingError")
     @Column(length = 1000)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String processingError;
 
     @CreationTimestamp
@@ -100,8 +122,41 @@ public class Document {
     @Column
     private Instant genaiProcessedAt;
 
+    // Stuck-document sweeper bookkeeping (see DocumentSweeper)
+    @Column
+    private Instant lastSweptAt;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int sweepAttempts = 0;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "document_categories", joinColumns = @JoinColumn(name = "document_id"), inverseJoinColumns = @JoinColumn(name = "category_id"))
     @Builder.Default
     private List<Category> categories = new ArrayList<>();
+
+    public String getOcrText() {
+        return content != null ? content.getOcrText() : null;
+    }
+
+    public void setOcrText(final String ocrText) {
+        contentForWrite().setOcrText(ocrText);
+    }
+
+    public String getSummaryText() {
+        return content != null ? content.getSummaryText() : null;
+    }
+
+    public void setSummaryText(final String summaryText) {
+        contentForWrite().setSummaryText(summaryText);
+    }
+
+    // The content row is created on first write and persisted through the cascade
+    private DocumentContent contentForWrite() {
+        if (content == null) {
+            content = DocumentContent.builder().document(this).build();
+        }
+        return content;
+    }
 }
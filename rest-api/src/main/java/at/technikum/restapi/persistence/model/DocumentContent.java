@@ -0,0 +1,48 @@
+package at.technikum.restapi.persistence.model;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// Large text of a document, kept out of the hot documents row (1:1, shares the document's ID)
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "document_content")
+public class DocumentContent {
+
+    @Id
+    private UUID documentId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "document_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Document document;
+
+    // OCR text (also the ElasticSearch backup)
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String ocrText;
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String summaryText;
+}
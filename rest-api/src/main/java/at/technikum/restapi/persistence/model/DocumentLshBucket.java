@@ -0,0 +1,43 @@
+package at.technikum.restapi.persistence.model;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One LSH band of a document's MinHash signature, hashed into a bucket
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@IdClass(DocumentLshBucket.Key.class)
+@Table(name = "document_lsh_buckets")
+public class DocumentLshBucket {
+
+    @Id
+    private UUID documentId;
+
+    @Id
+    private short band;
+
+    @Column(nullable = false)
+    private long bucket;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private UUID documentId;
+        private short band;
+    }
+}
@@ -0,0 +1,29 @@
+package at.technikum.restapi.persistence.model;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// MinHash signature of a document's OCR text, used to find near-duplicates
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "document_signatures")
+public class DocumentSignature {
+
+    @Id
+    private UUID documentId;
+
+    // 128 int32 hash minimums
+    @Column(nullable = false, length = 512)
+    private byte[] minhash;
+}
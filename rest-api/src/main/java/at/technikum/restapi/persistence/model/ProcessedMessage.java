@@ -0,0 +1,28 @@
+package at.technikum.restapi.persistence.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A worker response that was already applied, identified by its AMQP message ID
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "processed_messages")
+public class ProcessedMessage {
+
+    @Id
+    private String messageId;
+
+    @Column(nullable = false)
+    private Instant processedAt;
+}
@@ -5,23 +5,52 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.elasticsearch.annotations.CompletionField;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.annotations.TermVector;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
 
 import lombok.Builder;
 
 @Builder
-@Document(indexName = "documents")
+// External versioning with the Postgres row version: a write carrying an older version than the
+// indexed one (a slow post-commit write overtaken by a newer one) is rejected instead of applied
+@Document(indexName = "documents", versionType = Document.VersionType.EXTERNAL_GTE)
+// Analyzers live in the settings file; shards, replicas and refresh interval only apply when the index is created
+@Setting(settingPath = "/elasticsearch/documents-settings.json", shards = 1, replicas = 0, refreshInterval = "1s")
 public record SearchDocument(
-        @Id UUID id,
-        @Field(type = FieldType.Text, analyzer = "standard") String title,
+        // Keyword so it can serve as the search_after tiebreaker (_id has no doc values)
+        @Id @Field(type = FieldType.Keyword) UUID id,
+        // title.keyword is used for sorting
+        @MultiField(mainField = @Field(type = FieldType.Text, analyzer = "german_text"),
+                otherFields = {
+                        @InnerField(suffix = "en", type = FieldType.Text, analyzer = "english_text"),
+                        @InnerField(suffix = "keyword", type = FieldType.Keyword, normalizer = "sort_normalizer",
+                                ignoreAbove = 256)
+                })
+        String title,
         @Field(type = FieldType.Text, analyzer = "standard") String originalFilename,
-        @Field(type = FieldType.Text, analyzer = "standard") String ocrText,
-        @Field(type = FieldType.Text, analyzer = "standard") String summaryText,
+        // Term vectors with offsets let the fast vector highlighter cut snippets without re-analyzing the text
+        @MultiField(mainField = @Field(type = FieldType.Text, analyzer = "german_text",
+                termVector = TermVector.with_positions_offsets),
+                otherFields = @InnerField(suffix = "en", type = FieldType.Text, analyzer = "english_text"))
+        String ocrText,
+        @MultiField(mainField = @Field(type = FieldType.Text, analyzer = "german_text",
+                termVector = TermVector.with_positions_offsets),
+                otherFields = @InnerField(suffix = "en", type = FieldType.Text, analyzer = "english_text"))
+        String summaryText,
         @Field(type = FieldType.Long) Long fileSize,
         @Field(type = FieldType.Keyword) String contentType,
         @Field(type = FieldType.Keyword) String processingStatus,
         @Field(type = FieldType.Date) Instant createdAt,
-        @Field(type = FieldType.Keyword) List<String> categoryNames) {
-}
\ No newline at end of file
+        @Field(type = FieldType.Keyword) List<String> categoryNames,
+        // Type-ahead inputs (title, filename, category names), served from the in-memory completion FST
+        @CompletionField(maxInputLength = 100) Completion suggest,
+        @Version Long version) {
+}
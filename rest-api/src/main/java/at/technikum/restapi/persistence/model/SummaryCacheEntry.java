@@ -0,0 +1,36 @@
+package at.technikum.restapi.persistence.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A GenAI summary, reusable for every document with the same OCR text fingerprint
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "summary_cache")
+public class SummaryCacheEntry {
+
+    // Hex SHA-256 of the normalized OCR text
+    @Id
+    @Column(length = 64)
+    private String fingerprint;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String summaryText;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant lastUsedAt;
+}
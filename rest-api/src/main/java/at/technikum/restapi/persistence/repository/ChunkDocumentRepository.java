@@ -0,0 +1,14 @@
+package at.technikum.restapi.persistence.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+
+import at.technikum.restapi.persistence.model.ChunkDocument;
+
+public interface ChunkDocumentRepository
+        extends ElasticsearchRepository<ChunkDocument, String> {
+
+    void deleteByDocumentIdIn(Collection<UUID> documentIds);
+}
@@ -0,0 +1,11 @@
+package at.technikum.restapi.persistence.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import at.technikum.restapi.persistence.model.DocumentContent;
+
+public interface DocumentContentRepository extends JpaRepository<DocumentContent, UUID> {
+
+}
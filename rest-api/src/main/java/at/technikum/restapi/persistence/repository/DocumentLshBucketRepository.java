@@ -0,0 +1,26 @@
+package at.technikum.restapi.persistence.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import at.technikum.restapi.persistence.model.DocumentLshBucket;
+
+public interface DocumentLshBucketRepository extends JpaRepository<DocumentLshBucket, DocumentLshBucket.Key> {
+
+    @Modifying
+    @Query("delete from DocumentLshBucket b where b.documentId = :documentId")
+    void deleteByDocumentId(@Param("documentId") UUID documentId);
+
+    // Documents sharing at least one band bucket; uses idx_document_lsh_buckets_bucket
+    @Query("select distinct b.documentId from DocumentLshBucket b "
+            + "where b.bucket in :buckets and b.documentId <> :documentId")
+    List<UUID> findCandidates(@Param("documentId") UUID documentId, @Param("buckets") Collection<Long> buckets,
+            Pageable pageable);
+}
@@ -1,15 +1,79 @@
 package at.technikum.restapi.persistence.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import at.technikum.restapi.persistence.model.Document;
+import at.technikum.restapi.persistence.model.Document.ProcessingStatus;
 
 public interface DocumentRepository extends JpaRepository<Document, UUID> {
-    
+
     @EntityGraph(attributePaths = {"categories"})
     Optional<Document> findWithCategoriesById(UUID id);
+
+    @EntityGraph(attributePaths = {"categories"})
+    List<Document> findWithCategoriesByIdIn(Collection<UUID> ids);
+
+    @Query("select d.id as id, d.processingStatus as processingStatus, d.processingError as processingError "
+            + "from Document d where d.id = :id")
+    Optional<DocumentStatusView> findStatusById(@Param("id") UUID id);
+
+    @Query("select d.id as id, d.processingStatus as processingStatus, d.processingError as processingError "
+            + "from Document d where d.id in :ids")
+    List<DocumentStatusView> findStatusesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Documents whose in-flight status has not advanced since the cutoff and that were not
+    // already republished after it. Uses idx_documents_status_created_at.
+    @Query("select d from Document d where d.processingStatus in :statuses and d.createdAt < :cutoff "
+            + "and (d.ocrProcessedAt is null or d.ocrProcessedAt < :cutoff) "
+            + "and (d.lastSweptAt is null or d.lastSweptAt < :cutoff) "
+            + "order by d.createdAt")
+    List<Document> findStuck(@Param("statuses") Collection<ProcessingStatus> statuses,
+            @Param("cutoff") Instant cutoff, Pageable pageable);
+
+    // Compare-and-set status transition: the guard lives in the WHERE clause, so a late failure
+    // can never overwrite a result committed in between. Bumps the version like an entity write
+    // and resets the sweeper bookkeeping like every other stage transition.
+    // Pending changes are flushed first and the persistence context is cleared afterwards.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Document d set d.processingStatus = :status, d.processingError = :error, "
+            + "d.sweepAttempts = 0, d.lastSweptAt = null, "
+            + "d.version = d.version + 1 where d.id = :id and d.processingStatus in :expected")
+    int transitionStatus(@Param("id") UUID id, @Param("expected") Collection<ProcessingStatus> expected,
+            @Param("status") ProcessingStatus status, @Param("error") String error);
+
+    // Sweeper bookkeeping as a compare-and-set: applies only while the document is still in the
+    // status and at the attempt count the sweeper read, so it never lands on top of a concurrent
+    // transition. Leaves the version alone - the columns belong to the sweeper and are reset by
+    // every stage transition, so pipeline writers need not conflict with it.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Document d set d.lastSweptAt = :sweptAt, d.sweepAttempts = d.sweepAttempts + 1 "
+            + "where d.id = :id and d.processingStatus = :status and d.sweepAttempts = :attempts")
+    int markSwept(@Param("id") UUID id, @Param("status") ProcessingStatus status,
+            @Param("attempts") int attempts, @Param("sweptAt") Instant sweptAt);
+
+    @Query("select d.id from Document d join d.categories c where c.id = :categoryId")
+    List<UUID> findIdsByCategoryId(@Param("categoryId") UUID categoryId);
+
+    // Bulk category changes bypass the entity, so the version is bumped explicitly: writers
+    // holding one of these documents conflict instead of restoring the old category list
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Document d set d.version = d.version + 1 where d.id in "
+            + "(select d2.id from Document d2 join d2.categories c where c.id = :categoryId)")
+    int incrementVersionOfCategory(@Param("categoryId") UUID categoryId);
+
+    // Detaches a category from every document in one statement instead of loading them all
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from document_categories where category_id = :categoryId", nativeQuery = true)
+    int removeCategoryFromAll(@Param("categoryId") UUID categoryId);
 }
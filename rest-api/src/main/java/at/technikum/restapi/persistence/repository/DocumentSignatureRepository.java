@@ -0,0 +1,11 @@
+package at.technikum.restapi.persistence.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import at.technikum.restapi.persistence.model.DocumentSignature;
+
+public interface DocumentSignatureRepository extends JpaRepository<DocumentSignature, UUID> {
+
+}
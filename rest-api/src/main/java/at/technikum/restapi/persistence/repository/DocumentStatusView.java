@@ -0,0 +1,18 @@
+package at.technikum.restapi.persistence.repository;
+
+import java.util.UUID;
+
+import at.technikum.restapi.persistence.model.Document.ProcessingStatus;
+
+/**
+ * Closed projection for status lookups; selects three columns instead of the whole document
+ * row (which includes the OCR and summary text).
+ */
+public interface DocumentStatusView {
+
+    UUID getId();
+
+    ProcessingStatus getProcessingStatus();
+
+    String getProcessingError();
+}
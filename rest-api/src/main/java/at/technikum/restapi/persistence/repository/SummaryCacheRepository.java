@@ -0,0 +1,23 @@
+package at.technikum.restapi.persistence.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import at.technikum.restapi.persistence.model.SummaryCacheEntry;
+
+public interface SummaryCacheRepository extends JpaRepository<SummaryCacheEntry, String> {
+
+    @Modifying
+    @Query("delete from SummaryCacheEntry e where e.lastUsedAt < :cutoff")
+    int deleteUnusedSince(@Param("cutoff") Instant cutoff);
+
+    // Page offset N returns the last-use time of the (N+1)th most recently used entry
+    @Query("select e.lastUsedAt from SummaryCacheEntry e order by e.lastUsedAt desc")
+    List<Instant> findLastUsedAtNewestFirst(Pageable pageable);
+}
@@ -5,13 +5,17 @@ import java.util.List;
 import java.util.UUID;
 import java.util.regex.Pattern;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import at.technikum.restapi.config.CacheConfig;
 import at.technikum.restapi.persistence.model.Category;
 import at.technikum.restapi.persistence.repository.CategoryRepository;
 import at.technikum.restapi.persistence.repository.DocumentRepository;
 import at.technikum.restapi.service.dto.CategoryDto;
+import at.technikum.restapi.service.event.CategoryRemovedEvent;
 import at.technikum.restapi.service.exception.CategoryAlreadyExistsException;
 import at.technikum.restapi.service.exception.CategoryNotFoundException;
 import at.technikum.restapi.service.exception.CategoryValidationException;
@@ -26,6 +30,7 @@ public class CategoryServiceImpl implements CategoryService {
     private static final Pattern HEX_COLOR_PATTERN = Pattern.compile("^#[0-9A-Fa-f]{6}$");
     private final CategoryRepository repository;
     private final DocumentRepository documentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -56,6 +61,8 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional
+    // Cached search results embed category names and colors
+    @CacheEvict(cacheNames = CacheConfig.SEARCH_RESULTS, allEntries = true)
     public void delete(final UUID id) {
         if (!repository.existsById(id)) {
             throw new CategoryNotFoundException(id);
@@ -64,22 +71,23 @@ public class CategoryServiceImpl implements CategoryService {
         repository.findById(id)
                 .orElseThrow(() -> new CategoryNotFoundException(id));
 
-        // Find all documents that have this category and remove it from them
-        final var allDocuments = documentRepository.findAll();
-        for (final var document : allDocuments) {
-            if (document.getCategories().removeIf(cat -> cat.getId().equals(id))) {
-                documentRepository.save(document);
-                log.debug("Removed category {} from document {}", id, document.getId());
-            }
-        }
+        // Remove it from all documents that have it
+        final List<UUID> documentIds = documentRepository.findIdsByCategoryId(id);
+        documentRepository.incrementVersionOfCategory(id);
+        final int detached = documentRepository.removeCategoryFromAll(id);
+        log.debug("Removed category {} from {} document(s)", id, detached);
 
         // Now safe to delete the category
         repository.deleteById(id);
+        // Their index entries are rewritten once the removal is committed
+        eventPublisher.publishEvent(new CategoryRemovedEvent(id, documentIds));
         log.info("Deleted category {} and removed it from all associated documents", id);
     }
 
     @Override
     @Transactional
+    // Cached search results embed category names and colors
+    @CacheEvict(cacheNames = CacheConfig.SEARCH_RESULTS, allEntries = true)
     public CategoryDto update(final CategoryDto category) {
         validate(category, true);
         final UUID id = category.id();
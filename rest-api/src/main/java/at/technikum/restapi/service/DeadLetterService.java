@@ -0,0 +1,14 @@
+package at.technikum.restapi.service;
+
+import java.util.List;
+
+import at.technikum.restapi.service.dto.DeadLetterQueueDto;
+
+public interface DeadLetterService {
+
+    List<DeadLetterQueueDto> getQueues();
+
+    DeadLetterQueueDto getQueue(final String name);
+
+    int replay(final String name, final int limit);
+}
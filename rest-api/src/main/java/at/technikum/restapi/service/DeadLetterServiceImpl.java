@@ -0,0 +1,84 @@
+package at.technikum.restapi.service;
+
+import java.util.List;
+
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+
+import at.technikum.restapi.config.RabbitConfig;
+import at.technikum.restapi.service.dto.DeadLetterQueueDto;
+import at.technikum.restapi.service.messaging.listener.ResponseRetryRecoverer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterServiceImpl implements DeadLetterService {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final RabbitConfig rabbitConfig;
+
+    @Override
+    public List<DeadLetterQueueDto> getQueues() {
+        return List.of(getQueue("ocr"), getQueue("genai"));
+    }
+
+    @Override
+    public DeadLetterQueueDto getQueue(final String name) {
+        final String sourceQueue = resolveSourceQueue(name);
+        final String deadLetterQueue = sourceQueue + RabbitConfig.DEAD_LETTER_QUEUE_SUFFIX;
+        final QueueInformation info = amqpAdmin.getQueueInfo(deadLetterQueue);
+
+        return DeadLetterQueueDto.builder()
+                .name(name)
+                .queue(deadLetterQueue)
+                .sourceQueue(sourceQueue)
+                .messageCount(info != null ? info.getMessageCount() : 0)
+                .build();
+    }
+
+    @Override
+    public int replay(final String name, final int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Replay limit must be positive");
+        }
+
+        final String sourceQueue = resolveSourceQueue(name);
+        final String deadLetterQueue = sourceQueue + RabbitConfig.DEAD_LETTER_QUEUE_SUFFIX;
+
+        int replayed = 0;
+        while (replayed < limit) {
+            final Message message = rabbitTemplate.receive(deadLetterQueue);
+            if (message == null) {
+                break;
+            }
+
+            // Start the replayed message with a fresh retry budget
+            final MessageProperties properties = message.getMessageProperties();
+            properties.getHeaders().remove(ResponseRetryRecoverer.RETRY_COUNT_HEADER);
+            properties.getHeaders().remove(ResponseRetryRecoverer.ORIGINAL_QUEUE_HEADER);
+            properties.getHeaders().remove(ResponseRetryRecoverer.EXCEPTION_MESSAGE_HEADER);
+
+            rabbitTemplate.send("", sourceQueue, message);
+            replayed++;
+        }
+
+        log.info("Replayed {} message(s) from '{}' to '{}'", replayed, deadLetterQueue, sourceQueue);
+        return replayed;
+    }
+
+    private String resolveSourceQueue(final String name) {
+        return switch (name == null ? "" : name.toLowerCase()) {
+            case "ocr" -> rabbitConfig.getOcrResponseQueue();
+            case "genai" -> rabbitConfig.getGenaiResponseQueue();
+            default -> throw new IllegalArgumentException(
+                    "Unknown dead-letter queue '" + name + "'. Supported: ocr, genai");
+        };
+    }
+}
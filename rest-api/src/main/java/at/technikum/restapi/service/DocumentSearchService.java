@@ -2,6 +2,11 @@ package at.technikum.restapi.service;
 
 import at.technikum.restapi.persistence.model.Document;
 import at.technikum.restapi.persistence.model.SearchDocument;
+import at.technikum.restapi.service.dto.FacetedSearchHits;
+import at.technikum.restapi.service.dto.FacetedSearchRequestDto;
+import at.technikum.restapi.service.dto.HybridSearchHits;
+import at.technikum.restapi.service.dto.SearchHitsPage;
+import at.technikum.restapi.service.dto.SearchPageRequestDto;
 
 import java.util.List;
 import java.util.UUID;
@@ -10,6 +15,8 @@ public interface DocumentSearchService {
 
     void indexDocumentMetadata(final Document document);
 
+    void indexDocumentsMetadata(final List<Document> documents);
+
     void updateDocumentAfterOcr(final Document document);
 
     void updateDocumentAfterGenAI(final Document document);
@@ -18,5 +25,15 @@ public interface DocumentSearchService {
 
     void deleteFromIndex(final UUID documentId);
 
+    void reindex(final List<Document> documents);
+
     List<SearchDocument> search(final String queryString, final List<String> categoryNames);
+
+    FacetedSearchHits facetedSearch(final FacetedSearchRequestDto request);
+
+    SearchHitsPage searchPage(final SearchPageRequestDto request);
+
+    HybridSearchHits hybridSearch(final String query, final int size);
+
+    List<String> suggest(final String prefix);
 }
@@ -1,22 +1,71 @@
 package at.technikum.restapi.service;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.search.FieldSuggester;
+import co.elastic.clients.elasticsearch.core.search.Suggester;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
-import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
+import org.springframework.data.elasticsearch.core.suggest.response.Suggest;
 import org.springframework.stereotype.Service;
 
+import at.technikum.restapi.config.CacheConfig;
+import at.technikum.restapi.persistence.model.ChunkDocument;
 import at.technikum.restapi.persistence.model.Document;
 import at.technikum.restapi.persistence.model.SearchDocument;
+import at.technikum.restapi.persistence.repository.ChunkDocumentRepository;
 import at.technikum.restapi.persistence.repository.SearchDocumentRepository;
+import at.technikum.restapi.service.dto.FacetBucketDto;
+import at.technikum.restapi.service.dto.FacetedSearchHits;
+import at.technikum.restapi.service.dto.FacetedSearchRequestDto;
+import at.technikum.restapi.service.dto.HybridSearchHits;
+import at.technikum.restapi.service.dto.SearchFacetsDto;
+import at.technikum.restapi.service.dto.SearchHitsPage;
+import at.technikum.restapi.service.dto.SearchPageRequestDto;
+import at.technikum.restapi.service.dto.SearchSort;
+import at.technikum.restapi.service.exception.InvalidDocumentException;
 import at.technikum.restapi.service.mapper.DocumentMapper;
 import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
 import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.util.ObjectBuilder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,6 +77,67 @@ public class DocumentSearchServiceImpl implements DocumentSearchService {
     private final SearchDocumentRepository searchDocumentRepository;
     private final ElasticsearchOperations elasticsearchOperations;
     private final DocumentMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final ElasticsearchClient elasticsearchClient;
+    private final ChunkDocumentRepository chunkDocumentRepository;
+    private final EmbeddingService embeddingService;
+
+    @Value("${ELASTICSEARCH_REFRESH_INTERVAL:1s}")
+    private String refreshInterval;
+
+    private static final String CATEGORIES_FACET = "categories";
+    private static final String CONTENT_TYPES_FACET = "contentTypes";
+    private static final String STATUSES_FACET = "processingStatuses";
+    private static final String CREATED_AT_FACET = "createdAt";
+    private static final String FILE_SIZE_FACET = "fileSize";
+    private static final int FACET_SIZE = 50;
+    private static final String SUGGESTER = "suggest";
+    private static final int SUGGESTION_SIZE = 10;
+    private static final int REINDEX_CHUNK_SIZE = 500;
+    // Hybrid search: depth of each ranking fed into the fusion, and the usual RRF rank constant
+    private static final int RRF_WINDOW = 50;
+    private static final int RRF_K = 60;
+    private static final int KNN_CANDIDATES = 200;
+
+    private static final TypeReference<List<Object>> CURSOR_TYPE = new TypeReference<>() {
+    };
+
+    // Hits are hydrated from Postgres, so never ship the large text fields
+    private static final SourceFilter TEXT_FIELDS_EXCLUDED = new FetchSourceFilterBuilder()
+            .withExcludes("ocrText", "summaryText")
+            .build();
+
+    // Completion options carry their document's _source; the suggestion text is all we need
+    private static final SourceFilter ID_ONLY = new FetchSourceFilterBuilder()
+            .withIncludes("id")
+            .build();
+
+    private static final SourceFilter DOCUMENT_ID_ONLY = new FetchSourceFilterBuilder()
+            .withIncludes("documentId")
+            .build();
+
+    // Short fragments of the matched OCR/summary text, cut by the fast vector highlighter from the
+    // term vectors; the _source filter above does not apply to highlighting
+    private static final HighlightQuery SNIPPETS = new HighlightQuery(new Highlight(
+            HighlightParameters.builder()
+                    .withType("fvh")
+                    .withFragmentSize(150)
+                    .withNumberOfFragments(2)
+                    .withPreTags("<em>")
+                    .withPostTags("</em>")
+                    .withEncoder("html")
+                    .build(),
+            List.of(new HighlightField("summaryText"), new HighlightField("ocrText"))),
+            SearchDocument.class);
+
+    // Raw JSON keeps the range definition independent of the client's (changing) range builder types
+    private static final String FILE_SIZE_RANGES = """
+            {"range": {"field": "fileSize", "keyed": false, "ranges": [
+              {"key": "< 1 MB", "to": 1048576},
+              {"key": "1-10 MB", "from": 1048576, "to": 10485760},
+              {"key": "10-100 MB", "from": 10485760, "to": 104857600},
+              {"key": ">= 100 MB", "from": 104857600}
+            ]}}""";
 
     @Override
     public void indexDocumentMetadata(final Document document) {
@@ -50,6 +160,26 @@ public class DocumentSearchServiceImpl implements DocumentSearchService {
         }
     }
 
+    @Override
+    public void indexDocumentsMetadata(final List<Document> documents) {
+        if (documents == null || documents.isEmpty()) {
+            return;
+        }
+        try {
+            final List<SearchDocument> searchDocuments = documents.stream()
+                    .map(mapper::toSearchDocument)
+                    .toList();
+
+            // saveAll is sent as a single _bulk request
+            searchDocumentRepository.saveAll(searchDocuments);
+            log.info("✓ Bulk indexed metadata of {} documents in ElasticSearch", searchDocuments.size());
+        } catch (final Exception e) {
+            log.error("✗ FAILED to bulk index metadata of {} documents in ElasticSearch: {}",
+                    documents.size(), e.getMessage(), e);
+            // Don't throw - indexing failure shouldn't block the main workflow
+        }
+    }
+
     @Override
     public void updateDocumentAfterOcr(final Document document) {
         try {
@@ -113,9 +243,12 @@ public class DocumentSearchServiceImpl implements DocumentSearchService {
     }
 
     @Override
+    // Pipeline writes only age out of the search cache; a deleted document is dropped right away
+    @CacheEvict(cacheNames = CacheConfig.SEARCH_RESULTS, allEntries = true)
     public void deleteFromIndex(final UUID documentId) {
         try {
             searchDocumentRepository.deleteById(documentId);
+            chunkDocumentRepository.deleteByDocumentIdIn(List.of(documentId));
             log.info("Deleted document {} from ElasticSearch index", documentId);
         } catch (final Exception e) {
             log.warn("Failed to delete document {} from ElasticSearch index: {}",
@@ -123,6 +256,68 @@ public class DocumentSearchServiceImpl implements DocumentSearchService {
         }
     }
 
+    /**
+     * Builds a new, versioned index from the {@link SearchDocument} settings and mapping, bulk loads
+     * it and then points the documents alias at it, dropping the previous index in the same step.
+     * Analyzers, sub-fields and term vectors only take effect on index creation, so this is also how
+     * an index created with an older (or dynamic) mapping is brought up to date. Writes that reach the
+     * old index while the new one is loading are lost with it; those documents catch up on their next
+     * write or the next reindex.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.SEARCH_RESULTS, allEntries = true)
+    public void reindex(final List<Document> documents) {
+        final IndexOperations aliasOps = elasticsearchOperations.indexOps(SearchDocument.class);
+        final String alias = aliasOps.getIndexCoordinates().getIndexName();
+        final IndexCoordinates target = IndexCoordinates.of(alias + "_" + System.currentTimeMillis());
+        final IndexOperations targetOps = elasticsearchOperations.indexOps(target);
+
+        targetOps.create(aliasOps.createSettings(), aliasOps.createMapping());
+        try {
+            // No refreshes while bulk loading; every refresh creates a new segment that has to be merged later
+            setRefreshInterval(target.getIndexName(), "-1");
+            for (int from = 0; from < documents.size(); from += REINDEX_CHUNK_SIZE) {
+                final int to = Math.min(from + REINDEX_CHUNK_SIZE, documents.size());
+                final List<Document> batch = documents.subList(from, to);
+                elasticsearchOperations.save(batch.stream().map(mapper::toSearchDocument).toList(), target);
+            }
+            setRefreshInterval(target.getIndexName(), refreshInterval);
+            targetOps.refresh();
+            switchAlias(alias, target.getIndexName());
+        } catch (final RuntimeException | IOException e) {
+            targetOps.delete();
+            throw new IllegalStateException("Failed to rebuild index '" + alias + "'", e);
+        }
+        log.info("✓ Reindexed {} documents into '{}' (alias '{}')", documents.size(), target.getIndexName(), alias);
+    }
+
+    // One atomic alias update: readers never see an empty or half-built index. remove_index also
+    // covers the first run, when "documents" is still a concrete index created on startup
+    private void switchAlias(final String alias, final String index) throws IOException {
+        final Set<String> previous = elasticsearchClient.indices()
+                .get(g -> g.index(alias).ignoreUnavailable(true))
+                .result()
+                .keySet();
+
+        elasticsearchClient.indices().updateAliases(u -> {
+            u.actions(a -> a.add(add -> add.index(index).alias(alias)));
+            previous.forEach(old -> u.actions(a -> a.removeIndex(r -> r.index(old))));
+            return u;
+        });
+        log.info("Alias '{}' now points to '{}', removed {}", alias, index, previous);
+    }
+
+    private void setRefreshInterval(final String indexName, final String interval) {
+        try {
+            elasticsearchClient.indices().putSettings(p -> p
+                    .index(indexName)
+                    .settings(s -> s.refreshInterval(t -> t.time(interval))));
+            log.debug("Set refresh_interval of index '{}' to {}", indexName, interval);
+        } catch (final IOException | ElasticsearchException e) {
+            log.warn("Failed to set refresh_interval of index '{}' to {}: {}", indexName, interval, e.getMessage());
+        }
+    }
+
     @Override
     public List<SearchDocument> search(final String queryString, final List<String> categoryNames) {
         final boolean hasQuery = queryString != null && !queryString.isBlank();
@@ -137,16 +332,10 @@ public class DocumentSearchServiceImpl implements DocumentSearchService {
         }
 
         try {
-            final Query searchQuery = NativeQuery.builder()
+            final NativeQuery searchQuery = NativeQuery.builder()
                     .withQuery(q -> q.bool(b -> {
                         if (hasQuery) {
-                            b.must(m -> m.multiMatch(mm -> mm
-                                    .query(queryString)
-                                    .fields("title^3", "originalFilename^2", "summaryText^1.5", "ocrText")
-                                    .type(TextQueryType.BestFields)
-                                    .fuzziness("AUTO")
-                                    .prefixLength(2)
-                                    .operator(Operator.Or)));
+                            b.must(textQuery(queryString));
                         }
                         if (hasCategories) {
                             // Convert category names to lowercase for case-insensitive matching
@@ -160,6 +349,7 @@ public class DocumentSearchServiceImpl implements DocumentSearchService {
                         }
                         return b;
                     }))
+                    .withSourceFilter(TEXT_FIELDS_EXCLUDED)
                     .build();
 
             final var searchHits = elasticsearchOperations.search(searchQuery, SearchDocument.class);
@@ -173,6 +363,323 @@ public class DocumentSearchServiceImpl implements DocumentSearchService {
         }
     }
 
+    @Override
+    public FacetedSearchHits facetedSearch(final FacetedSearchRequestDto request) {
+        final boolean hasQuery = request.query() != null && !request.query().isBlank();
+
+        try {
+            final var searchQuery = NativeQuery.builder()
+                    .withQuery(q -> q.bool(b -> {
+                        if (hasQuery) {
+                            b.must(textQuery(request.query()));
+                        } else {
+                            b.must(m -> m.matchAll(ma -> ma));
+                        }
+                        // Drill-down selections narrow hits and facets alike (non-scoring filters)
+                        addTermsFilter(b, "categoryNames", lowercase(request.categories()));
+                        addTermsFilter(b, "contentType", request.contentTypes());
+                        addTermsFilter(b, "processingStatus", request.processingStatuses());
+                        return b;
+                    }))
+                    .withAggregation(CATEGORIES_FACET, Aggregation.of(a -> a
+                            .terms(t -> t.field("categoryNames").size(FACET_SIZE))))
+                    .withAggregation(CONTENT_TYPES_FACET, Aggregation.of(a -> a
+                            .terms(t -> t.field("contentType").size(FACET_SIZE))))
+                    .withAggregation(STATUSES_FACET, Aggregation.of(a -> a
+                            .terms(t -> t.field("processingStatus").size(FACET_SIZE))))
+                    .withAggregation(CREATED_AT_FACET, Aggregation.of(a -> a
+                            .dateHistogram(d -> d
+                                    .field("createdAt")
+                                    .calendarInterval(CalendarInterval.Month)
+                                    .format("yyyy-MM")
+                                    .minDocCount(1))))
+                    .withAggregation(FILE_SIZE_FACET, Aggregation.of(a -> a
+                            .withJson(new StringReader(FILE_SIZE_RANGES))))
+                    .withSourceFilter(TEXT_FIELDS_EXCLUDED)
+                    .withPageable(PageRequest.of(request.page(), request.size()))
+                    .withTrackTotalHits(true);
+            if (hasQuery) {
+                searchQuery.withHighlightQuery(SNIPPETS);
+            }
+
+            final SearchHits<SearchDocument> searchHits = elasticsearchOperations.search(searchQuery.build(),
+                    SearchDocument.class);
+            final Map<String, ElasticsearchAggregation> aggregations = searchHits.hasAggregations()
+                    ? ((ElasticsearchAggregations) searchHits.getAggregations()).aggregationsAsMap()
+                    : Map.of();
+
+            return FacetedSearchHits.builder()
+                    .total(searchHits.getTotalHits())
+                    .hits(searchHits.getSearchHits().stream().map(SearchHit::getContent).toList())
+                    .highlights(snippets(searchHits.getSearchHits()))
+                    .facets(SearchFacetsDto.builder()
+                            .categories(termsBuckets(aggregations.get(CATEGORIES_FACET)))
+                            .contentTypes(termsBuckets(aggregations.get(CONTENT_TYPES_FACET)))
+                            .processingStatuses(termsBuckets(aggregations.get(STATUSES_FACET)))
+                            .createdAt(dateHistogramBuckets(aggregations.get(CREATED_AT_FACET)))
+                            .fileSize(rangeBuckets(aggregations.get(FILE_SIZE_FACET)))
+                            .build())
+                    .build();
+        } catch (final Exception e) {
+            log.error("Failed faceted search for query '{}': {}", request.query(), e.getMessage(), e);
+            throw new RuntimeException("Error searching documents", e);
+        }
+    }
+
+    @Override
+    public SearchHitsPage searchPage(final SearchPageRequestDto request) {
+        final boolean hasQuery = request.query() != null && !request.query().isBlank();
+        final SearchSort sort = request.sort() != null ? request.sort() : SearchSort.RELEVANCE;
+        final SortOrder order = request.direction() == Sort.Direction.ASC ? SortOrder.Asc : SortOrder.Desc;
+
+        try {
+            final var builder = NativeQuery.builder()
+                    .withQuery(q -> q.bool(b -> {
+                        if (hasQuery) {
+                            b.must(textQuery(request.query()));
+                        } else {
+                            b.must(m -> m.matchAll(ma -> ma));
+                        }
+                        addTermsFilter(b, "categoryNames", lowercase(request.categories()));
+                        return b;
+                    }))
+                    .withSort(sortOptions(sort, order))
+                    // Unique tiebreaker, so documents with equal sort values are never skipped or repeated
+                    .withSort(so -> so.field(f -> f.field("id").order(SortOrder.Asc)))
+                    .withSourceFilter(TEXT_FIELDS_EXCLUDED)
+                    .withMaxResults(request.size())
+                    .withTrackTotalHits(true);
+            if (request.cursor() != null && !request.cursor().isBlank()) {
+                builder.withSearchAfter(decodeCursor(request.cursor()));
+            }
+            if (hasQuery) {
+                builder.withHighlightQuery(SNIPPETS);
+            }
+
+            final SearchHits<SearchDocument> searchHits = elasticsearchOperations.search(builder.build(),
+                    SearchDocument.class);
+            final List<SearchHit<SearchDocument>> hits = searchHits.getSearchHits();
+
+            // A full page may be followed by more hits; a short page is the last one
+            final String nextCursor = hits.size() == request.size()
+                    ? encodeCursor(hits.getLast().getSortValues())
+                    : null;
+
+            return SearchHitsPage.builder()
+                    .total(searchHits.getTotalHits())
+                    .hits(hits.stream().map(SearchHit::getContent).toList())
+                    .highlights(snippets(hits))
+                    .nextCursor(nextCursor)
+                    .build();
+        } catch (final InvalidDocumentException e) {
+            throw e;
+        } catch (final Exception e) {
+            log.error("Failed paginated search for query '{}': {}", request.query(), e.getMessage(), e);
+            throw new RuntimeException("Error searching documents", e);
+        }
+    }
+
+    @Override
+    public HybridSearchHits hybridSearch(final String query, final int size) {
+        if (query == null || query.isBlank()) {
+            return HybridSearchHits.builder().ids(List.of()).highlights(Map.of()).build();
+        }
+        final int window = Math.max(RRF_WINDOW, size);
+
+        try {
+            final NativeQuery lexicalQuery = NativeQuery.builder()
+                    .withQuery(textQuery(query))
+                    .withSourceFilter(ID_ONLY)
+                    .withHighlightQuery(SNIPPETS)
+                    .withMaxResults(window)
+                    .build();
+            final List<SearchHit<SearchDocument>> lexicalHits = elasticsearchOperations
+                    .search(lexicalQuery, SearchDocument.class)
+                    .getSearchHits();
+            final List<UUID> lexical = lexicalHits.stream().map(hit -> hit.getContent().id()).toList();
+
+            // Without embeddings the fusion degrades to the lexical ranking
+            final List<UUID> semantic = embeddingService.isEnabled() ? semanticRanking(query, window) : List.of();
+
+            return HybridSearchHits.builder()
+                    .ids(fuseRankings(List.of(lexical, semantic), size))
+                    .highlights(snippets(lexicalHits))
+                    .build();
+        } catch (final Exception e) {
+            log.error("Failed hybrid search for query '{}': {}", query, e.getMessage(), e);
+            throw new RuntimeException("Error searching documents", e);
+        }
+    }
+
+    // Documents ranked by their best matching chunk (approximate kNN over the HNSW graph)
+    private List<UUID> semanticRanking(final String query, final int window) {
+        final float[] embedding = embeddingService.embed(List.of(query)).getFirst();
+        final List<Float> queryVector = new ArrayList<>(embedding.length);
+        for (final float value : embedding) {
+            queryVector.add(value);
+        }
+
+        final NativeQuery knnQuery = NativeQuery.builder()
+                .withQuery(q -> q.knn(k -> k
+                        .field("vector")
+                        .queryVector(queryVector)
+                        .numCandidates(Math.max(KNN_CANDIDATES, window * 2))))
+                .withSourceFilter(DOCUMENT_ID_ONLY)
+                // Several chunks can belong to the same document
+                .withMaxResults(window * 2)
+                .build();
+
+        return elasticsearchOperations.search(knnQuery, ChunkDocument.class).getSearchHits().stream()
+                .map(hit -> hit.getContent().documentId())
+                .distinct()
+                .limit(window)
+                .toList();
+    }
+
+    // Reciprocal rank fusion: each ranking contributes 1 / (k + rank), so documents ranked well by
+    // both the lexical and the semantic query come first without having to normalize their scores
+    static List<UUID> fuseRankings(final List<List<UUID>> rankings, final int size) {
+        final Map<UUID, Double> scores = new LinkedHashMap<>();
+        for (final List<UUID> ranking : rankings) {
+            for (int rank = 0; rank < ranking.size(); rank++) {
+                scores.merge(ranking.get(rank), 1.0 / (RRF_K + rank + 1), Double::sum);
+            }
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                .limit(size)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Override
+    public List<String> suggest(final String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            // size 0: only the suggest section is needed, no query phase over the text fields
+            final NativeQuery query = NativeQuery.builder()
+                    .withSuggester(Suggester.of(su -> su.suggesters(SUGGESTER, FieldSuggester.of(fs -> fs
+                            .prefix(prefix)
+                            .completion(c -> c
+                                    .field("suggest")
+                                    .size(SUGGESTION_SIZE)
+                                    .skipDuplicates(true))))))
+                    .withSourceFilter(ID_ONLY)
+                    .withMaxResults(0)
+                    .build();
+
+            final Suggest suggest = elasticsearchOperations.search(query, SearchDocument.class).getSuggest();
+            if (suggest == null || suggest.getSuggestion(SUGGESTER) == null) {
+                return Collections.emptyList();
+            }
+            return suggest.getSuggestion(SUGGESTER).getEntries().stream()
+                    .flatMap(entry -> entry.getOptions().stream())
+                    .map(option -> option.getText())
+                    .distinct()
+                    .toList();
+        } catch (final Exception e) {
+            log.error("Failed to suggest completions for prefix '{}': {}", prefix, e.getMessage(), e);
+            throw new RuntimeException("Error suggesting completions", e);
+        }
+    }
+
+    // Fuzzy matching only on the short fields: expanding fuzzy terms over the large OCR text is expensive.
+    // The German-analyzed main fields and their English subfields are searched side by side.
+    private static Query textQuery(final String text) {
+        return Query.of(q -> q.bool(b -> b
+                .should(s -> s.multiMatch(mm -> mm
+                        .query(text)
+                        .fields("title^3", "title.en^3", "originalFilename^2")
+                        .type(TextQueryType.BestFields)
+                        .fuzziness("AUTO")
+                        .prefixLength(2)
+                        .operator(Operator.Or)))
+                .should(s -> s.multiMatch(mm -> mm
+                        .query(text)
+                        .fields("summaryText^1.5", "summaryText.en^1.5", "ocrText", "ocrText.en")
+                        .type(TextQueryType.BestFields)
+                        .operator(Operator.Or)))
+                .minimumShouldMatch("1")));
+    }
+
+    private static Function<SortOptions.Builder, ObjectBuilder<SortOptions>> sortOptions(final SearchSort sort,
+            final SortOrder order) {
+        return switch (sort) {
+            case RELEVANCE -> so -> so.score(sc -> sc.order(order));
+            case CREATED_AT -> so -> so.field(f -> f.field("createdAt").order(order));
+            case FILE_SIZE -> so -> so.field(f -> f.field("fileSize").order(order));
+            case TITLE -> so -> so.field(f -> f.field("title.keyword").order(order));
+        };
+    }
+
+    // Summary fragments first, they are usually the more readable context
+    private static Map<UUID, List<String>> snippets(final List<SearchHit<SearchDocument>> hits) {
+        final Map<UUID, List<String>> snippets = new LinkedHashMap<>();
+        for (final SearchHit<SearchDocument> hit : hits) {
+            final List<String> fragments = new ArrayList<>(hit.getHighlightField("summaryText"));
+            fragments.addAll(hit.getHighlightField("ocrText"));
+            if (!fragments.isEmpty()) {
+                snippets.put(hit.getContent().id(), fragments);
+            }
+        }
+        return snippets;
+    }
+
+    // The cursor is the last hit's sort values, JSON encoded and base64url wrapped
+    private String encodeCursor(final List<Object> sortValues) throws JsonProcessingException {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(sortValues));
+    }
+
+    private List<Object> decodeCursor(final String cursor) {
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), CURSOR_TYPE);
+        } catch (final IllegalArgumentException | IOException e) {
+            throw new InvalidDocumentException("Invalid search cursor");
+        }
+    }
+
+    private void addTermsFilter(final BoolQuery.Builder bool, final String field, final List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            bool.filter(f -> f.terms(t -> t
+                    .field(field)
+                    .terms(v -> v.value(toFieldValues(values)))));
+        }
+    }
+
+    private static List<String> lowercase(final List<String> values) {
+        return values == null ? null : values.stream().map(String::toLowerCase).toList();
+    }
+
+    private static List<FacetBucketDto> termsBuckets(final ElasticsearchAggregation aggregation) {
+        if (aggregation == null || !aggregation.aggregation().getAggregate().isSterms()) {
+            return List.of();
+        }
+        return aggregation.aggregation().getAggregate().sterms().buckets().array().stream()
+                .map(bucket -> new FacetBucketDto(bucket.key().stringValue(), bucket.docCount()))
+                .toList();
+    }
+
+    private static List<FacetBucketDto> dateHistogramBuckets(final ElasticsearchAggregation aggregation) {
+        if (aggregation == null || !aggregation.aggregation().getAggregate().isDateHistogram()) {
+            return List.of();
+        }
+        return aggregation.aggregation().getAggregate().dateHistogram().buckets().array().stream()
+                .map(bucket -> new FacetBucketDto(bucket.keyAsString(), bucket.docCount()))
+                .toList();
+    }
+
+    private static List<FacetBucketDto> rangeBuckets(final ElasticsearchAggregation aggregation) {
+        if (aggregation == null || !aggregation.aggregation().getAggregate().isRange()) {
+            return List.of();
+        }
+        return aggregation.aggregation().getAggregate().range().buckets().array().stream()
+                .map(bucket -> new FacetBucketDto(bucket.key(), bucket.docCount()))
+                .toList();
+    }
+
     private List<FieldValue> toFieldValues(final List<String> values) {
         return values.stream()
                 .map(FieldValue::of)
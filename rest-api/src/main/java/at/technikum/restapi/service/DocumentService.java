@@ -1,26 +1,40 @@
 package at.technikum.restapi.service;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import at.technikum.restapi.service.dto.BulkUploadResultDto;
 import at.technikum.restapi.service.dto.DocumentDetailDto;
 import at.technikum.restapi.service.dto.DocumentSummaryDto;
+import at.technikum.restapi.service.dto.FacetedSearchRequestDto;
+import at.technikum.restapi.service.dto.FacetedSearchResultDto;
+import at.technikum.restapi.service.dto.SearchPageDto;
+import at.technikum.restapi.service.dto.SearchPageRequestDto;
+import at.technikum.restapi.service.dto.SimilarDocumentDto;
 import at.technikum.restapi.service.dto.WorkerStatusDto;
+import at.technikum.restapi.service.event.CategoryRemovedEvent;
 
 public interface DocumentService {
 
     DocumentSummaryDto upload(final MultipartFile file, final String title, final Instant createdAt,
             List<String> categoryIds);
 
+    BulkUploadResultDto bulkUpload(final List<MultipartFile> files, final List<String> categoryIds);
+
+    BulkUploadResultDto uploadArchive(final MultipartFile archive, final List<String> categoryIds);
+
     List<DocumentSummaryDto> getAll();
 
     DocumentDetailDto getById(final UUID id);
 
     WorkerStatusDto getWorkerStatus(final UUID id);
 
+    List<WorkerStatusDto> getWorkerStatuses(final Collection<UUID> ids);
+
     DocumentSummaryDto update(final UUID id, final DocumentSummaryDto updateDoc);
 
     void delete(final UUID id);
@@ -35,5 +49,19 @@ public interface DocumentService {
 
     List<DocumentSummaryDto> search(final String query, final List<String> categoryNames);
 
+    FacetedSearchResultDto facetedSearch(final FacetedSearchRequestDto request);
+
+    SearchPageDto searchPage(final SearchPageRequestDto request);
+
+    List<DocumentSummaryDto> hybridSearch(final String query, final int size);
+
+    List<String> suggest(final String prefix);
+
+    List<SimilarDocumentDto> findSimilar(final UUID id, final double minSimilarity, final int limit);
+
+    List<SimilarDocumentDto> findDuplicates(final UUID id, final int limit);
+
     void reindexAllDocuments();
+
+    void onCategoryRemoved(final CategoryRemovedEvent event);
 }
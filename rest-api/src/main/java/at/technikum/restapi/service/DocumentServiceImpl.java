@@ -1,22 +1,71 @@
 package at.technikum.restapi.service;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import at.technikum.restapi.config.CacheConfig;
+import at.technikum.restapi.persistence.model.Category;
 import at.technikum.restapi.persistence.model.Document;
+import at.technikum.restapi.persistence.model.SearchDocument;
 import at.technikum.restapi.persistence.repository.DocumentRepository;
+import at.technikum.restapi.service.dto.BulkUploadItemDto;
+import at.technikum.restapi.service.dto.BulkUploadResultDto;
 import at.technikum.restapi.service.dto.DocumentDetailDto;
 import at.technikum.restapi.service.dto.DocumentSummaryDto;
+import at.technikum.restapi.service.dto.FacetedSearchRequestDto;
+import at.technikum.restapi.service.dto.FacetedSearchResultDto;
+import at.technikum.restapi.service.dto.SearchPageDto;
+import at.technikum.restapi.service.dto.SearchPageRequestDto;
+import at.technikum.restapi.service.dto.SimilarDocumentDto;
+import at.technikum.restapi.service.dto.SimilarityMatch;
 import at.technikum.restapi.service.dto.WorkerStatusDto;
+import at.technikum.restapi.service.event.CategoryRemovedEvent;
+import at.technikum.restapi.service.event.DocumentOcrCompletedEvent;
+import at.technikum.restapi.service.event.DocumentReadyForSummaryEvent;
+import at.technikum.restapi.service.event.DocumentStatusChangedEvent;
+import at.technikum.restapi.service.event.DocumentSummarizedEvent;
+import at.technikum.restapi.service.event.OcrTextConsumedEvent;
+import at.technikum.restapi.service.exception.DocumentConflictException;
 import at.technikum.restapi.service.exception.DocumentNotFoundException;
 import at.technikum.restapi.service.exception.DocumentProcessingException;
+import at.technikum.restapi.service.exception.DocumentUploadException;
 import at.technikum.restapi.service.exception.InvalidDocumentException;
 import at.technikum.restapi.service.mapper.CategoryMapper;
 import at.technikum.restapi.service.mapper.DocumentMapper;
@@ -36,6 +85,74 @@ public class DocumentServiceImpl implements DocumentService {
     private final DocumentPublisher publisher;
     private final MinioService minioService;
     private final DocumentSearchService documentSearchService;
+    private final Executor bulkUploadExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmbeddingIndexer embeddingIndexer;
+    private final NearDuplicateService nearDuplicateService;
+    private final SummaryCacheService summaryCacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final RetryTemplate optimisticLockRetryTemplate;
+
+    @Value("${BULK_UPLOAD_MAX_FILES:500}")
+    private int bulkUploadMaxFiles;
+
+    @Value("${SEARCH_MAX_PAGE_SIZE:100}")
+    private int searchMaxPageSize;
+
+    @Value("${STATUS_BATCH_MAX_IDS:500}")
+    private int statusBatchMaxIds;
+
+    @Value("${ARCHIVE_MAX_ENTRIES:10000}")
+    private int archiveMaxEntries;
+
+    @Value("${ARCHIVE_FLUSH_SIZE:100}")
+    private int archiveFlushSize;
+
+    // Uncompressed bytes; entry headers may omit or understate the size, so the limits are
+    // enforced on the bytes actually streamed to MinIO
+    @Value("${ARCHIVE_MAX_ENTRY_SIZE:512MB}")
+    private DataSize archiveMaxEntrySize;
+
+    @Value("${ARCHIVE_MAX_TOTAL_SIZE:10GB}")
+    private DataSize archiveMaxTotalSize;
+
+    @Value("${DUPLICATE_THRESHOLD:0.9}")
+    private double duplicateThreshold;
+
+    // Opt-in: templated documents (invoices, contracts) that differ only in amounts, names or dates
+    // clear the threshold easily and would get another document's summary
+    @Value("${DUPLICATE_SKIP_GENAI:false}")
+    private boolean duplicateSkipGenAI;
+
+    @Value("${DUPLICATE_SKIP_GENAI_THRESHOLD:0.95}")
+    private double duplicateSkipGenAIThreshold;
+
+    @Value("${SIMILAR_MAX_RESULTS:50}")
+    private int similarMaxResults;
+
+    @Value("${CATEGORY_REINDEX_BATCH_SIZE:500}")
+    private int categoryReindexBatchSize;
+
+    // Worker results are applied only in these states; anything else is a duplicate (redelivery,
+    // sweeper republish) or arrived out of order and is skipped before MinIO, ES or GenAI are touched.
+    // A late success still replaces a sweeper-declared failure; a late failure never replaces a success.
+    private static final Set<Document.ProcessingStatus> ACCEPTS_OCR_RESULT = EnumSet.of(
+            Document.ProcessingStatus.PENDING,
+            Document.ProcessingStatus.OCR_PROCESSING,
+            Document.ProcessingStatus.OCR_FAILED);
+
+    private static final Set<Document.ProcessingStatus> ACCEPTS_OCR_FAILURE = EnumSet.of(
+            Document.ProcessingStatus.PENDING,
+            Document.ProcessingStatus.OCR_PROCESSING);
+
+    private static final Set<Document.ProcessingStatus> ACCEPTS_GENAI_RESULT = EnumSet.of(
+            Document.ProcessingStatus.OCR_COMPLETED,
+            Document.ProcessingStatus.GENAI_PROCESSING,
+            Document.ProcessingStatus.GENAI_FAILED);
+
+    private static final Set<Document.ProcessingStatus> ACCEPTS_GENAI_FAILURE = EnumSet.of(
+            Document.ProcessingStatus.OCR_COMPLETED,
+            Document.ProcessingStatus.GENAI_PROCESSING);
 
     // Supported file types for OCR
     private static final List<String> SUPPORTED_MIME_TYPES = List.of(
@@ -47,6 +164,16 @@ public class DocumentServiceImpl implements DocumentService {
             "image/bmp",
             "image/gif");
 
+    private static final Map<String, String> EXTENSION_MIME_TYPES = Map.of(
+            ".pdf", "application/pdf",
+            ".png", "image/png",
+            ".jpg", "image/jpeg",
+            ".jpeg", "image/jpeg",
+            ".tiff", "image/tiff",
+            ".tif", "image/tiff",
+            ".bmp", "image/bmp",
+            ".gif", "image/gif");
+
     private static final List<String> SUPPORTED_EXTENSIONS = List.of(
             ".pdf",
             ".png",
@@ -57,9 +184,294 @@ public class DocumentServiceImpl implements DocumentService {
             ".bmp",
             ".gif");
 
+    private static final List<String> SUPPORTED_ARCHIVE_EXTENSIONS = List.of(
+            ".zip",
+            ".tar",
+            ".tar.gz",
+            ".tgz");
+
+    private static final String UNSUPPORTED_ARCHIVE_MESSAGE =
+            "Unsupported archive type. Supported formats: ZIP, TAR, TAR.GZ";
+
     @Override
     public DocumentSummaryDto upload(final MultipartFile file, final String title, final Instant createdAt,
             List<String> categoryIds) {
+        validateFile(file);
+
+        try {
+            final String objectKey = minioService.uploadFile(file);
+
+            final var entity = buildDocument(file, objectKey, title, createdAt, resolveCategories(categoryIds));
+
+            // Save to PostgreSQL
+            final var saved = repository.save(entity);
+
+            // Index metadata in ElasticSearch immediately (search while still processing)
+            documentSearchService.indexDocumentMetadata(saved);
+
+            final var dto = mapper.toSummaryDto(saved);
+
+            // Publish OCR request
+            publisher.publishDocumentForOcr(saved);
+
+            return dto;
+        } catch (final Exception e) {
+            throw new DocumentProcessingException("Error uploading document: " + title, e);
+        }
+    }
+
+    @Override
+    public BulkUploadResultDto bulkUpload(final List<MultipartFile> files, final List<String> categoryIds) {
+        if (files == null || files.isEmpty()) {
+            throw new InvalidDocumentException("No files provided");
+        }
+        if (files.size() > bulkUploadMaxFiles) {
+            throw new InvalidDocumentException(
+                    "Too many files: " + files.size() + " (maximum per bulk upload is " + bulkUploadMaxFiles + ")");
+        }
+
+        final List<Category> categories = resolveCategories(categoryIds);
+        final BulkUploadItemDto[] items = new BulkUploadItemDto[files.size()];
+        final Map<Integer, CompletableFuture<String>> uploads = new LinkedHashMap<>();
+
+        // 1. Validate synchronously, upload the valid files to MinIO concurrently
+        for (int i = 0; i < files.size(); i++) {
+            final MultipartFile file = files.get(i);
+            try {
+                validateFile(file);
+                uploads.put(i, CompletableFuture.supplyAsync(() -> minioService.uploadFile(file), bulkUploadExecutor));
+            } catch (final InvalidDocumentException e) {
+                items[i] = failedItem(file.getOriginalFilename(), e.getMessage());
+            }
+        }
+
+        // 2. Collect the uploaded objects and build the entities in input order
+        final List<Integer> indices = new ArrayList<>();
+        final List<Document> entities = new ArrayList<>();
+        for (final var upload : uploads.entrySet()) {
+            final int i = upload.getKey();
+            final MultipartFile file = files.get(i);
+            try {
+                final String objectKey = upload.getValue().join();
+                entities.add(buildDocument(file, objectKey, titleFromFilename(file.getOriginalFilename()),
+                        Instant.now(), new ArrayList<>(categories)));
+                indices.add(i);
+            } catch (final CompletionException e) {
+                final Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("Bulk upload of '{}' to MinIO failed: {}", file.getOriginalFilename(), cause.getMessage());
+                items[i] = failedItem(file.getOriginalFilename(), "Failed to store file: " + cause.getMessage());
+            }
+        }
+
+        // 3. One batched insert, one ES bulk request, one OCR publish batch
+        if (!entities.isEmpty()) {
+            final List<Document> saved = persistAndDispatch(entities);
+            for (int j = 0; j < entities.size(); j++) {
+                final int i = indices.get(j);
+                final String filename = files.get(i).getOriginalFilename();
+                items[i] = saved != null
+                        ? storedItem(filename, saved.get(j))
+                        : failedItem(filename, "Failed to save document metadata");
+            }
+        }
+
+        final var result = toBulkResult(items);
+        log.info("Bulk upload finished: {} of {} files stored", result.succeeded(), result.total());
+        return result;
+    }
+
+    @Override
+    public BulkUploadResultDto uploadArchive(final MultipartFile archive, final List<String> categoryIds) {
+        if (archive == null || archive.isEmpty()) {
+            throw new InvalidDocumentException("No archive provided");
+        }
+        // Reject unknown formats before any category lookups or uploads happen
+        if (!isSupportedArchive(archiveName(archive))) {
+            throw new InvalidDocumentException(UNSUPPORTED_ARCHIVE_MESSAGE);
+        }
+
+        final List<Category> categories = resolveCategories(categoryIds);
+        final List<BulkUploadItemDto> items = new ArrayList<>();
+        final List<String> pendingNames = new ArrayList<>();
+        final List<Document> pending = new ArrayList<>();
+        final long maxEntryBytes = archiveMaxEntrySize.toBytes();
+        long remainingBytes = archiveMaxTotalSize.toBytes();
+        int entries = 0;
+
+        // Entries already read are kept when a limit is hit; the rest of the archive is reported
+        // as one failed item instead of failing the whole request
+        try (ArchiveInputStream<?> in = openArchive(archive)) {
+            ArchiveEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                if (entry.isDirectory() || isArchiveMetadata(entry.getName())) {
+                    continue;
+                }
+
+                final String name = entry.getName();
+                if (++entries > archiveMaxEntries) {
+                    items.add(failedItem(name, "Archive contains more than " + archiveMaxEntries
+                            + " entries; this and the remaining entries were skipped"));
+                    break;
+                }
+
+                final String filename = name.substring(name.lastIndexOf('/') + 1);
+                final String contentType = contentTypeFor(filename);
+
+                if (contentType == null) {
+                    items.add(failedItem(name,
+                            "Unsupported file type. Supported formats: PDF, PNG, JPG, JPEG, TIFF, BMP, GIF"));
+                    continue;
+                }
+                if (!in.canReadEntryData(entry)) {
+                    items.add(failedItem(name, "Entry cannot be read (encrypted or unsupported compression)"));
+                    continue;
+                }
+                if (entry.getSize() > maxEntryBytes) {
+                    items.add(failedItem(name, entryTooLargeMessage()));
+                    continue;
+                }
+                if (entry.getSize() > remainingBytes) {
+                    items.add(failedItem(name, archiveTooLargeMessage()));
+                    break;
+                }
+
+                // Pipe the entry straight into MinIO while the archive is being read
+                final var entryStream = new EntryInputStream(in, Math.min(maxEntryBytes, remainingBytes));
+                try {
+                    final String objectKey = minioService.uploadStream(entryStream, entry.getSize(), filename,
+                            contentType);
+                    pending.add(Document.builder()
+                            .title(titleFromFilename(filename))
+                            .fileBucket("paperless-documents")
+                            .fileObjectKey(objectKey)
+                            .originalFilename(filename)
+                            .contentType(contentType)
+                            .createdAt(Instant.now())
+                            .fileSize(entryStream.getCount())
+                            .processingStatus(Document.ProcessingStatus.PENDING)
+                            .categories(new ArrayList<>(categories))
+                            .build());
+                    pendingNames.add(name);
+                    remainingBytes -= entryStream.getCount();
+                } catch (final DocumentUploadException e) {
+                    // Bounded by what is left of the total: the archive as a whole is too large
+                    if (entryStream.isLimitExceeded() && remainingBytes <= maxEntryBytes) {
+                        items.add(failedItem(name, archiveTooLargeMessage()));
+                        break;
+                    }
+                    if (entryStream.isLimitExceeded()) {
+                        items.add(failedItem(name, entryTooLargeMessage()));
+                    } else {
+                        log.error("Failed to store archive entry '{}': {}", name, e.getMessage());
+                        items.add(failedItem(name, "Failed to store file: " + e.getMessage()));
+                    }
+                }
+
+                // Persist in chunks so memory stays flat for very large archives
+                if (pending.size() >= archiveFlushSize) {
+                    flushArchiveEntries(pending, pendingNames, items);
+                }
+            }
+        } catch (final IOException e) {
+            log.error("Failed to read archive '{}': {}", archive.getOriginalFilename(), e.getMessage());
+            items.add(failedItem(archive.getOriginalFilename(), "Failed to read archive: " + e.getMessage()));
+        } finally {
+            flushArchiveEntries(pending, pendingNames, items);
+        }
+
+        final var result = toBulkResult(items.toArray(BulkUploadItemDto[]::new));
+        log.info("Archive '{}' ingested: {} of {} entries stored",
+                archive.getOriginalFilename(), result.succeeded(), result.total());
+        return result;
+    }
+
+    private void flushArchiveEntries(final List<Document> pending, final List<String> names,
+            final List<BulkUploadItemDto> items) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        final List<Document> saved = persistAndDispatch(pending);
+        for (int i = 0; i < pending.size(); i++) {
+            items.add(saved != null
+                    ? storedItem(names.get(i), saved.get(i))
+                    : failedItem(names.get(i), "Failed to save document metadata"));
+        }
+        pending.clear();
+        names.clear();
+    }
+
+    private String entryTooLargeMessage() {
+        return "Entry exceeds the maximum size of " + archiveMaxEntrySize;
+    }
+
+    private String archiveTooLargeMessage() {
+        return "Archive exceeds the maximum uncompressed size of " + archiveMaxTotalSize
+                + "; this and the remaining entries were skipped";
+    }
+
+    private static String archiveName(final MultipartFile archive) {
+        return archive.getOriginalFilename() != null
+                ? archive.getOriginalFilename().toLowerCase()
+                : "";
+    }
+
+    private static boolean isSupportedArchive(final String name) {
+        return SUPPORTED_ARCHIVE_EXTENSIONS.stream().anyMatch(name::endsWith);
+    }
+
+    private ArchiveInputStream<?> openArchive(final MultipartFile archive) throws IOException {
+        final String name = archiveName(archive);
+        final InputStream in = archive.getInputStream();
+
+        if (name.endsWith(".zip")) {
+            return new ZipArchiveInputStream(in);
+        } else if (name.endsWith(".tar")) {
+            return new TarArchiveInputStream(in);
+        } else if (name.endsWith(".tar.gz") || name.endsWith(".tgz")) {
+            return new TarArchiveInputStream(new GzipCompressorInputStream(in));
+        }
+
+        in.close();
+        throw new InvalidDocumentException(UNSUPPORTED_ARCHIVE_MESSAGE);
+    }
+
+    private static boolean isArchiveMetadata(final String name) {
+        final String filename = name.substring(name.lastIndexOf('/') + 1);
+        return name.startsWith("__MACOSX/") || filename.startsWith("._") || filename.startsWith(".");
+    }
+
+    private static String contentTypeFor(final String filename) {
+        final int dot = filename.lastIndexOf('.');
+        return dot < 0 ? null : EXTENSION_MIME_TYPES.get(filename.substring(dot).toLowerCase());
+    }
+
+    /**
+     * Persists freshly uploaded documents in one batch, indexes them with one bulk request and
+     * publishes their OCR requests. Returns {@code null} (after removing the MinIO objects) if
+     * the batch insert fails.
+     */
+    private List<Document> persistAndDispatch(final List<Document> entities) {
+        final List<Document> saved;
+        try {
+            saved = repository.saveAll(entities);
+        } catch (final DataAccessException e) {
+            log.error("Batch insert of {} documents failed: {}", entities.size(), e.getMessage(), e);
+            entities.forEach(entity -> minioService.deleteFile(entity.getFileObjectKey()));
+            return null;
+        }
+
+        documentSearchService.indexDocumentsMetadata(saved);
+
+        try {
+            publisher.publishDocumentsForOcr(saved);
+        } catch (final Exception e) {
+            // Documents stay PENDING and are picked up by the stuck-document sweeper
+            log.error("Failed to publish OCR requests for {} documents: {}", saved.size(), e.getMessage(), e);
+        }
+        return saved;
+    }
+
+    private void validateFile(final MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new InvalidDocumentException("No file provided");
         }
@@ -68,7 +480,7 @@ public class DocumentServiceImpl implements DocumentService {
         final String contentType = file.getContentType();
         final String originalName = file.getOriginalFilename();
 
-        if (originalName == null || originalName.isBlank()) {
+        if (originalName == null || originalName.isBlank() || originalName.lastIndexOf('.') < 0) {
             throw new InvalidDocumentException("Invalid filename");
         }
 
@@ -85,44 +497,62 @@ public class DocumentServiceImpl implements DocumentService {
                     "Unsupported content type: " + contentType
                             + ". Supported formats: PDF, PNG, JPG, JPEG, TIFF, BMP, GIF");
         }
+    }
 
-        try {
-            final String objectKey = minioService.uploadFile(file);
-
-            // Fetch categories from IDs and create mutable list
-            final var categories = new ArrayList<>(
-                    categoryIds.stream()
-                            .map(id -> categoryService.getById(UUID.fromString(id)))
-                            .map(categoryMapper::toEntity)
-                            .toList());
-
-            final var entity = Document.builder()
-                    .title(title)
-                    .fileBucket("paperless-documents")
-                    .fileObjectKey(objectKey)
-                    .originalFilename(file.getOriginalFilename())
-                    .contentType(file.getContentType())
-                    .createdAt(createdAt)
-                    .fileSize(file.getSize())
-                    .processingStatus(Document.ProcessingStatus.PENDING)
-                    .categories(categories)
-                    .build();
+    private List<Category> resolveCategories(final List<String> categoryIds) {
+        // Fetch categories from IDs and create mutable list
+        return new ArrayList<>(
+                categoryIds.stream()
+                        .map(id -> categoryService.getById(UUID.fromString(id)))
+                        .map(categoryMapper::toEntity)
+                        .toList());
+    }
 
-            // Save to PostgreSQL
-            final var saved = repository.save(entity);
+    private Document buildDocument(final MultipartFile file, final String objectKey, final String title,
+            final Instant createdAt, final List<Category> categories) {
+        return Document.builder()
+                .title(title)
+                .fileBucket("paperless-documents")
+                .fileObjectKey(objectKey)
+                .originalFilename(file.getOriginalFilename())
+                .contentType(file.getContentType())
+                .createdAt(createdAt)
+                .fileSize(file.getSize())
+                .processingStatus(Document.ProcessingStatus.PENDING)
+                .categories(categories)
+                .build();
+    }
 
-            // Index metadata in ElasticSearch immediately (search while still processing)
-            documentSearchService.indexDocumentMetadata(saved);
+    private static String titleFromFilename(final String filename) {
+        final int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
+    }
 
-            final var dto = mapper.toSummaryDto(saved);
+    private BulkUploadItemDto storedItem(final String filename, final Document document) {
+        return BulkUploadItemDto.builder()
+                .filename(filename)
+                .success(true)
+                .document(mapper.toSummaryDto(document))
+                .build();
+    }
 
-            // Publish OCR request
-            publisher.publishDocumentForOcr(saved);
+    private static BulkUploadItemDto failedItem(final String filename, final String error) {
+        return BulkUploadItemDto.builder()
+                .filename(filename)
+                .success(false)
+                .error(error)
+                .build();
+    }
 
-            return dto;
-        } catch (final Exception e) {
-            throw new DocumentProcessingException("Error uploading document: " + title, e);
-        }
+    private static BulkUploadResultDto toBulkResult(final BulkUploadItemDto[] items) {
+        final List<BulkUploadItemDto> results = Arrays.asList(items);
+        final int succeeded = (int) results.stream().filter(BulkUploadItemDto::success).count();
+        return BulkUploadResultDto.builder()
+                .total(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .items(results)
+                .build();
     }
 
     @Override
@@ -136,6 +566,7 @@ public class DocumentServiceImpl implements DocumentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DocumentDetailDto getById(final UUID id) {
         try {
             final var entity = repository.findById(id)
@@ -150,49 +581,85 @@ public class DocumentServiceImpl implements DocumentService {
     @Override
     public WorkerStatusDto getWorkerStatus(final UUID id) {
         try {
-            final var entity = repository.findById(id)
+            final var status = repository.findStatusById(id)
                     .orElseThrow(() -> new DocumentNotFoundException(id));
 
-            return mapper.toWorkerStatusDto(entity);
+            return mapper.toWorkerStatusDto(status);
         } catch (final DataAccessException e) {
             throw new DocumentProcessingException("Error fetching Worker status for ID=" + id, e);
         }
     }
 
     @Override
+    public List<WorkerStatusDto> getWorkerStatuses(final Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidDocumentException("No document IDs provided");
+        }
+        if (ids.size() > statusBatchMaxIds) {
+            throw new InvalidDocumentException(
+                    "Too many document IDs: " + ids.size() + " (maximum is " + statusBatchMaxIds + ")");
+        }
+
+        try {
+            // Unknown IDs are simply absent from the result
+            return repository.findStatusesByIdIn(Set.copyOf(ids)).stream()
+                    .map(mapper::toWorkerStatusDto)
+                    .toList();
+        } catch (final DataAccessException e) {
+            throw new DocumentProcessingException("Error fetching Worker statuses", e);
+        }
+    }
+
+    @Override
+    // Cached search results embed the title and categories
+    @CacheEvict(cacheNames = CacheConfig.SEARCH_RESULTS, allEntries = true)
     public DocumentSummaryDto update(final UUID id, final DocumentSummaryDto updateDoc) {
         if (updateDoc.id() != null && !updateDoc.id().equals(id)) {
             throw new InvalidDocumentException("ID in path does not match ID in body");
         }
 
         try {
-            var entity = repository.findById(id)
-                    .orElseThrow(() -> new DocumentNotFoundException(id));
-
-            if (updateDoc.title() != null && !updateDoc.title().trim().isBlank()
-                    && !updateDoc.title().equals(entity.getTitle())) {
-                entity.setTitle(updateDoc.title());
-            }
-            if (updateDoc.categories() != null) {
-                // Clear existing categories and add new ones
-                entity.getCategories().clear();
-                entity.getCategories().addAll(
-                        updateDoc.categories().stream()
-                                .map(categoryMapper::toEntity)
-                                .toList());
-            }
-
-            entity = repository.save(entity);
+            // Each attempt re-reads the document, so a worker result committed in between is kept
+            optimisticLockRetryTemplate.execute(context -> transactionTemplate.execute(
+                    status -> applyUpdate(id, updateDoc)));
 
-            // Update metadata in ElasticSearch
-            documentSearchService.updateDocumentStatus(entity);
+            // Index the committed row, reloaded in a transaction of its own: the entity from the
+            // update is detached by now and its lazy content (OCR/summary text) was never loaded
+            final var entity = transactionTemplate.execute(status -> {
+                final var committed = repository.findWithCategoriesById(id)
+                        .orElseThrow(() -> new DocumentNotFoundException(id));
+                documentSearchService.updateDocumentStatus(committed);
+                return committed;
+            });
 
             return mapper.toSummaryDto(entity);
+        } catch (final OptimisticLockingFailureException e) {
+            throw new DocumentConflictException(id, e);
         } catch (final DataAccessException e) {
             throw new DocumentProcessingException("Error updating document with ID=" + id, e);
         }
     }
 
+    private Document applyUpdate(final UUID id, final DocumentSummaryDto updateDoc) {
+        final var entity = repository.findWithCategoriesById(id)
+                .orElseThrow(() -> new DocumentNotFoundException(id));
+
+        if (updateDoc.title() != null && !updateDoc.title().trim().isBlank()
+                && !updateDoc.title().equals(entity.getTitle())) {
+            entity.setTitle(updateDoc.title());
+        }
+        if (updateDoc.categories() != null) {
+            // Clear existing categories and add new ones
+            entity.getCategories().clear();
+            entity.getCategories().addAll(
+                    updateDoc.categories().stream()
+                            .map(categoryMapper::toEntity)
+                            .toList());
+        }
+
+        return repository.save(entity);
+    }
+
     @Override
     public void delete(final UUID id) {
         try {
@@ -222,7 +689,12 @@ public class DocumentServiceImpl implements DocumentService {
             final var document = repository.findWithCategoriesById(documentId)
                     .orElseThrow(() -> new DocumentNotFoundException(documentId));
 
-            document.setProcessingStatus(Document.ProcessingStatus.OCR_COMPLETED);
+            if (!ACCEPTS_OCR_RESULT.contains(document.getProcessingStatus())) {
+                logSkippedResponse(document, "OCR result");
+                return;
+            }
+
+            advanceTo(document, Document.ProcessingStatus.OCR_COMPLETED);
             document.setOcrProcessedAt(Instant.now());
 
             // Handle both inline and MinIO-stored text
@@ -239,11 +711,11 @@ public class DocumentServiceImpl implements DocumentService {
                     log.info("Updated document {} with OCR text from MinIO ({} chars)",
                             documentId, largeOcrText.length());
 
-                    // IMPORTANT: Delete from MinIO immediately after saving to PostgreSQL
-                    minioService.deleteOcrText(ocrTextObjectKey);
-                    log.info("Deleted temporary OCR text from MinIO: {}", ocrTextObjectKey);
+                    // IMPORTANT: Delete from MinIO only once the text is committed to PostgreSQL;
+                    // a version conflict rolls back and the retry has to download it again
+                    eventPublisher.publishEvent(new OcrTextConsumedEvent(ocrTextObjectKey));
                 } catch (final Exception e) {
-                    log.error("Failed to fetch/delete OCR text from MinIO: {}", e.getMessage());
+                    log.error("Failed to fetch OCR text from MinIO: {}", e.getMessage());
                     throw new DocumentProcessingException("Error processing MinIO OCR text", e);
                 }
             } else {
@@ -252,13 +724,26 @@ public class DocumentServiceImpl implements DocumentService {
 
             // Save to PostgreSQL
             final var saved = repository.save(document);
+            publishStatusChanged(saved);
+            // Chunk embeddings are computed in the background once the text is committed
+            eventPublisher.publishEvent(new DocumentOcrCompletedEvent(documentId));
             log.info("Document {} OCR processing completed", documentId);
 
-            // Update in ElasticSearch with OCR text
-            documentSearchService.updateDocumentAfterOcr(saved);
+            nearDuplicateService.updateSignature(documentId, saved.getOcrText());
+            if (duplicateSkipGenAI && reuseDuplicateSummary(saved)) {
+                return;
+            }
 
-            // Publish to GenAI queue with TRUNCATED text (to avoid RabbitMQ size limits)
-            publisher.publishDocumentForGenAI(saved);
+            // Same text summarized before (form letters, templates): no GenAI round trip
+            final var cachedSummary = summaryCacheService.lookup(saved.getOcrText());
+            if (cachedSummary.isPresent()) {
+                completeWithSummary(saved, cachedSummary.get());
+                log.info("Document {} summary served from the summary cache, skipped GenAI", documentId);
+                return;
+            }
+
+            // Elasticsearch update and GenAI request run side by side once this transaction commits
+            eventPublisher.publishEvent(new DocumentReadyForSummaryEvent(saved));
         } catch (final DocumentNotFoundException e) {
             throw e;
         } catch (final Exception e) {
@@ -271,18 +756,10 @@ public class DocumentServiceImpl implements DocumentService {
     @Transactional
     public void markOcrAsFailed(final UUID documentId, final String error) {
         try {
-            // Use findWithCategoriesById to eagerly fetch categories for Elasticsearch indexing
-            final var document = repository.findWithCategoriesById(documentId)
-                    .orElseThrow(() -> new DocumentNotFoundException(documentId));
-
-            document.setProcessingStatus(Document.ProcessingStatus.OCR_FAILED);
-            document.setProcessingError(error);
-
-            final var saved = repository.save(document);
-
-            // Update status in ElasticSearch
-            documentSearchService.updateDocumentStatus(saved);
-
+            if (!transitionToFailed(documentId, ACCEPTS_OCR_FAILURE, Document.ProcessingStatus.OCR_FAILED,
+                    error, "OCR failure")) {
+                return;
+            }
             log.error("Marked document {} as OCR_FAILED: {}", documentId, error);
         } catch (final DocumentNotFoundException e) {
             throw e;
@@ -300,14 +777,21 @@ public class DocumentServiceImpl implements DocumentService {
             final var document = repository.findWithCategoriesById(documentId)
                     .orElseThrow(() -> new DocumentNotFoundException(documentId));
 
-            document.setProcessingStatus(Document.ProcessingStatus.COMPLETED);
+            if (!ACCEPTS_GENAI_RESULT.contains(document.getProcessingStatus())) {
+                logSkippedResponse(document, "GenAI result");
+                return;
+            }
+
+            advanceTo(document, Document.ProcessingStatus.COMPLETED);
             document.setSummaryText(summaryText);
             document.setGenaiProcessedAt(Instant.now());
 
             final var saved = repository.save(document);
+            publishStatusChanged(saved);
 
-            // Update in ElasticSearch with summary text
-            documentSearchService.updateDocumentAfterGenAI(saved);
+            // Update in ElasticSearch with summary text, once committed
+            eventPublisher.publishEvent(new DocumentSummarizedEvent(saved));
+            cacheSummary(saved);
 
             log.info("Document {} GenAI processing completed ({} chars summary)",
                     documentId, summaryText != null ? summaryText.length() : 0);
@@ -323,18 +807,10 @@ public class DocumentServiceImpl implements DocumentService {
     @Transactional
     public void markGenAIAsFailed(final UUID documentId, final String error) {
         try {
-            // Use findWithCategoriesById to eagerly fetch categories for Elasticsearch indexing
-            final var document = repository.findWithCategoriesById(documentId)
-                    .orElseThrow(() -> new DocumentNotFoundException(documentId));
-
-            document.setProcessingStatus(Document.ProcessingStatus.GENAI_FAILED);
-            document.setProcessingError(error);
-
-            final var saved = repository.save(document);
-
-            // Update status in ElasticSearch
-            documentSearchService.updateDocumentStatus(saved);
-
+            if (!transitionToFailed(documentId, ACCEPTS_GENAI_FAILURE, Document.ProcessingStatus.GENAI_FAILED,
+                    error, "GenAI failure")) {
+                return;
+            }
             log.error("Marked document {} as GENAI_FAILED: {}", documentId, error);
         } catch (final DocumentNotFoundException e) {
             throw e;
@@ -344,6 +820,128 @@ public class DocumentServiceImpl implements DocumentService {
         }
     }
 
+    // Single conditional UPDATE instead of read-modify-write: never conflicts with a concurrent
+    // writer and cannot overwrite a result that was committed in the meantime
+    private boolean transitionToFailed(final UUID documentId, final Set<Document.ProcessingStatus> expected,
+            final Document.ProcessingStatus failedStatus, final String error, final String kind) {
+        final int updated = repository.transitionStatus(documentId, expected, failedStatus, error);
+
+        // Use findWithCategoriesById to eagerly fetch categories for Elasticsearch indexing
+        final var document = repository.findWithCategoriesById(documentId)
+                .orElseThrow(() -> new DocumentNotFoundException(documentId));
+
+        if (updated == 0) {
+            logSkippedResponse(document, kind);
+            return false;
+        }
+
+        publishStatusChanged(document);
+
+        // Update status in ElasticSearch
+        documentSearchService.updateDocumentStatus(document);
+        return true;
+    }
+
+    // A re-scan of an already summarized document takes over its summary instead of another GenAI call
+    private boolean reuseDuplicateSummary(final Document document) {
+        final List<SimilarityMatch> matches =
+                nearDuplicateService.findSimilar(document.getId(), duplicateSkipGenAIThreshold, 5);
+        final Map<UUID, Document> candidates = repository
+                .findAllById(matches.stream().map(SimilarityMatch::documentId).toList()).stream()
+                .collect(Collectors.toMap(Document::getId, Function.identity()));
+
+        // Most similar first
+        final var original = matches.stream()
+                .map(match -> candidates.get(match.documentId()))
+                .filter(Objects::nonNull)
+                .filter(candidate -> candidate.getProcessingStatus() == Document.ProcessingStatus.COMPLETED
+                        && candidate.getSummaryText() != null)
+                .findFirst();
+        if (original.isEmpty()) {
+            return false;
+        }
+
+        completeWithSummary(document, original.get().getSummaryText());
+        log.info("Document {} is a near-duplicate of {}, reused its summary and skipped GenAI",
+                document.getId(), original.get().getId());
+        return true;
+    }
+
+    // Same outcome as a GenAI result, without the worker
+    private void completeWithSummary(final Document document, final String summaryText) {
+        document.setSummaryText(summaryText);
+        advanceTo(document, Document.ProcessingStatus.COMPLETED);
+        document.setGenaiProcessedAt(Instant.now());
+
+        final var saved = repository.save(document);
+        publishStatusChanged(saved);
+        eventPublisher.publishEvent(new DocumentSummarizedEvent(saved));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SimilarDocumentDto> findSimilar(final UUID id, final double minSimilarity, final int limit) {
+        if (minSimilarity < 0 || minSimilarity > 1) {
+            throw new InvalidDocumentException("Minimum similarity must be between 0 and 1");
+        }
+        if (limit < 1 || limit > similarMaxResults) {
+            throw new InvalidDocumentException("Limit must be between 1 and " + similarMaxResults);
+        }
+        if (!repository.existsById(id)) {
+            throw new DocumentNotFoundException(id);
+        }
+
+        final List<SimilarityMatch> matches = nearDuplicateService.findSimilar(id, minSimilarity, limit);
+        final Map<UUID, Document> documents = repository
+                .findWithCategoriesByIdIn(matches.stream().map(SimilarityMatch::documentId).toList()).stream()
+                .collect(Collectors.toMap(Document::getId, Function.identity()));
+
+        return matches.stream()
+                .filter(match -> documents.containsKey(match.documentId()))
+                .map(match -> SimilarDocumentDto.builder()
+                        .document(mapper.toSummaryDto(documents.get(match.documentId())))
+                        .similarity(match.similarity())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SimilarDocumentDto> findDuplicates(final UUID id, final int limit) {
+        return findSimilar(id, duplicateThreshold, limit);
+    }
+
+    // Best effort: a failed cache write only costs a future GenAI call
+    private void cacheSummary(final Document document) {
+        try {
+            summaryCacheService.store(document.getOcrText(), document.getSummaryText());
+        } catch (final DataAccessException e) {
+            log.warn("Failed to cache summary of document {}: {}", document.getId(), e.getMessage());
+        }
+    }
+
+    // A new stage gets the sweeper's full attempt budget and SLA, whatever the previous one used up
+    private static void advanceTo(final Document document, final Document.ProcessingStatus status) {
+        document.setProcessingStatus(status);
+        document.setSweepAttempts(0);
+        document.setLastSweptAt(null);
+    }
+
+    private static void logSkippedResponse(final Document document, final String kind) {
+        log.info("Ignoring duplicate or out-of-order {} for document {} in status {}",
+                kind, document.getId(), document.getProcessingStatus());
+    }
+
+    // Delivered to SSE subscribers once the surrounding transaction commits
+    private void publishStatusChanged(final Document document) {
+        eventPublisher.publishEvent(new DocumentStatusChangedEvent(
+                document.getId(), document.getProcessingStatus(), document.getProcessingError()));
+    }
+
+    // Hot searches skip Elasticsearch and Postgres. Pipeline progress (OCR, summaries, status) is
+    // picked up when entries expire; only user edits and deletes clear the cache
+    @Override
+    @Cacheable(cacheNames = CacheConfig.SEARCH_RESULTS, keyGenerator = SearchCacheKeyGenerator.NAME)
     public List<DocumentSummaryDto> search(final String query, final List<String> categoryNames) {
         try {
             // Delegate to search service
@@ -362,19 +960,180 @@ public class DocumentServiceImpl implements DocumentService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public FacetedSearchResultDto facetedSearch(final FacetedSearchRequestDto request) {
+        if (request.page() < 0 || request.size() < 1 || request.size() > searchMaxPageSize) {
+            throw new InvalidDocumentException("Page size must be between 1 and " + searchMaxPageSize);
+        }
+
+        try {
+            final var result = documentSearchService.facetedSearch(request);
+
+            return FacetedSearchResultDto.builder()
+                    .total(result.total())
+                    .page(request.page())
+                    .size(request.size())
+                    .documents(hydrate(result.hits(), result.highlights()))
+                    .facets(result.facets())
+                    .build();
+        } catch (final DataAccessException e) {
+            log.error("Failed to load faceted search results for query '{}': {}", request.query(), e.getMessage(), e);
+            throw new DocumentProcessingException("Error searching documents for query: " + request.query(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchPageDto searchPage(final SearchPageRequestDto request) {
+        if (request.size() < 1 || request.size() > searchMaxPageSize) {
+            throw new InvalidDocumentException("Page size must be between 1 and " + searchMaxPageSize);
+        }
+
+        try {
+            final var result = documentSearchService.searchPage(request);
+
+            return SearchPageDto.builder()
+                    .total(result.total())
+                    .documents(hydrate(result.hits(), result.highlights()))
+                    .nextCursor(result.nextCursor())
+                    .build();
+        } catch (final DataAccessException e) {
+            log.error("Failed to load search page for query '{}': {}", request.query(), e.getMessage(), e);
+            throw new DocumentProcessingException("Error searching documents for query: " + request.query(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DocumentSummaryDto> hybridSearch(final String query, final int size) {
+        if (size < 1 || size > searchMaxPageSize) {
+            throw new InvalidDocumentException("Page size must be between 1 and " + searchMaxPageSize);
+        }
+
+        try {
+            final var result = documentSearchService.hybridSearch(query, size);
+            return hydrate(result.ids(), result.highlights());
+        } catch (final DataAccessException e) {
+            log.error("Failed to load hybrid search results for query '{}': {}", query, e.getMessage(), e);
+            throw new DocumentProcessingException("Error searching documents for query: " + query, e);
+        }
+    }
+
+    @Override
+    public List<String> suggest(final String prefix) {
+        return documentSearchService.suggest(prefix);
+    }
+
+    // One IN query (categories fetched with it), kept in the order of the search hits
+    private List<DocumentSummaryDto> hydrate(final List<SearchDocument> hits,
+            final Map<UUID, List<String>> highlights) {
+        return hydrate(hits.stream().map(SearchDocument::id).toList(), highlights);
+    }
+
+    private List<DocumentSummaryDto> hydrate(final Collection<UUID> ids, final Map<UUID, List<String>> highlights) {
+        final Map<UUID, Document> documents = repository.findWithCategoriesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Document::getId, Function.identity()));
+
+        return ids.stream()
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                .map(document -> mapper.toSummaryDto(document, highlights.get(document.getId())))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public void reindexAllDocuments() {
         log.info("Starting reindex of all documents...");
         try {
             final var allDocuments = repository.findAll();
-            int count = 0;
-            for (final Document doc : allDocuments) {
-                documentSearchService.indexDocumentMetadata(doc);
-                count++;
-            }
-            log.info("✓ Successfully reindexed {} documents", count);
+            documentSearchService.reindex(allDocuments);
+            embeddingIndexer.enqueue(allDocuments.stream().map(Document::getId).toList());
+            log.info("✓ Successfully reindexed {} documents", allDocuments.size());
         } catch (final Exception e) {
             log.error("✗ Failed to reindex documents: {}", e.getMessage(), e);
             throw new DocumentProcessingException("Failed to reindex documents", e);
         }
     }
+
+    // The category was removed from the database in bulk; rewrite the affected index entries
+    // from the committed rows (with their bumped versions) in batches
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryRemoved(final CategoryRemovedEvent event) {
+        final List<UUID> ids = event.documentIds();
+        for (int from = 0; from < ids.size(); from += categoryReindexBatchSize) {
+            final List<UUID> batch = ids.subList(from, Math.min(from + categoryReindexBatchSize, ids.size()));
+            // Lazy content is read while mapping, so the batch is indexed inside the transaction
+            transactionTemplate.executeWithoutResult(status ->
+                    documentSearchService.indexDocumentsMetadata(repository.findWithCategoriesByIdIn(batch)));
+        }
+        log.info("Reindexed {} document(s) after category {} was removed", ids.size(), event.categoryId());
+    }
+
+    /**
+     * View of the current archive entry: counts the bytes read (entry sizes are not always in
+     * the header), fails once more than {@code limit} bytes were read so a compression bomb cannot
+     * stream unbounded data into storage, and ignores close() so the uploader cannot close the
+     * whole archive.
+     */
+    private static final class EntryInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+        private boolean limitExceeded;
+
+        EntryInputStream(final InputStream in, final long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        boolean isLimitExceeded() {
+            return limitExceeded;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b >= 0) {
+                count++;
+                checkLimit();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+                checkLimit();
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(n);
+            count += skipped;
+            checkLimit();
+            return skipped;
+        }
+
+        private void checkLimit() throws IOException {
+            if (count > limit) {
+                limitExceeded = true;
+                throw new IOException("Archive entry exceeds " + limit + " bytes");
+            }
+        }
+
+        @Override
+        public void close() {
+            // The archive stream is closed by uploadArchive
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package at.technikum.restapi.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import at.technikum.restapi.service.event.DocumentStatusChangedEvent;
+
+public interface DocumentStatusStreamService {
+
+    SseEmitter subscribe(final Collection<UUID> documentIds);
+
+    void onStatusChanged(final DocumentStatusChangedEvent event);
+}
@@ -0,0 +1,128 @@
+package at.technikum.restapi.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import at.technikum.restapi.persistence.repository.DocumentRepository;
+import at.technikum.restapi.service.dto.WorkerStatusDto;
+import at.technikum.restapi.service.event.DocumentStatusChangedEvent;
+import at.technikum.restapi.service.exception.InvalidDocumentException;
+import at.technikum.restapi.service.mapper.DocumentMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes processing status transitions to subscribed clients over Server-Sent Events.
+ * <p>
+ * Each subscription sends the current status of the requested documents once, then only
+ * the transitions published by {@link DocumentServiceImpl}. Emitters are kept in memory, so
+ * a client only receives events handled by the instance it is connected to.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentStatusStreamServiceImpl implements DocumentStatusStreamService {
+
+    static final String STATUS_EVENT = "status";
+
+    private final DocumentRepository repository;
+    private final DocumentMapper mapper;
+
+    private final Map<UUID, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${STATUS_STREAM_TIMEOUT:PT30M}")
+    private Duration timeout;
+
+    @Value("${STATUS_STREAM_MAX_IDS:500}")
+    private int maxIds;
+
+    @Override
+    public SseEmitter subscribe(final Collection<UUID> documentIds) {
+        if (documentIds == null || documentIds.isEmpty()) {
+            throw new InvalidDocumentException("No document IDs provided");
+        }
+        if (documentIds.size() > maxIds) {
+            throw new InvalidDocumentException(
+                    "Too many document IDs: " + documentIds.size() + " (maximum is " + maxIds + ")");
+        }
+
+        final Set<UUID> ids = Set.copyOf(documentIds);
+        final SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        ids.forEach(id -> subscribers.computeIfAbsent(id, key -> new CopyOnWriteArraySet<>()).add(emitter));
+
+        final Runnable cleanup = () -> unsubscribe(ids, emitter);
+        emitter.onCompletion(cleanup);
+        emitter.onTimeout(cleanup);
+        emitter.onError(error -> cleanup.run());
+
+        // Initial snapshot, so transitions between page load and subscribe are not lost
+        repository.findStatusesByIdIn(ids).forEach(status -> send(emitter, mapper.toWorkerStatusDto(status)));
+
+        log.debug("SSE client subscribed to {} documents", ids.size());
+        return emitter;
+    }
+
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(final DocumentStatusChangedEvent event) {
+        final Set<SseEmitter> emitters = subscribers.get(event.documentId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+
+        final WorkerStatusDto status = WorkerStatusDto.builder()
+                .id(event.documentId())
+                .processingStatus(event.processingStatus())
+                .processingError(event.processingError())
+                .build();
+        emitters.forEach(emitter -> send(emitter, status));
+    }
+
+    // Comment lines keep idle connections from being closed by proxies
+    @Scheduled(fixedDelayString = "${STATUS_STREAM_HEARTBEAT:PT25S}")
+    void heartbeat() {
+        subscribers.values().stream()
+                .flatMap(Set::stream)
+                .distinct()
+                .forEach(emitter -> {
+                    try {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } catch (final IOException | IllegalStateException e) {
+                        emitter.completeWithError(e);
+                    }
+                });
+    }
+
+    private void send(final SseEmitter emitter, final WorkerStatusDto status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(STATUS_EVENT)
+                    .id(status.id().toString())
+                    .data(status, MediaType.APPLICATION_JSON));
+        } catch (final IOException | IllegalStateException e) {
+            log.debug("Dropping SSE client for document {}: {}", status.id(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(final Set<UUID> ids, final SseEmitter emitter) {
+        ids.forEach(id -> subscribers.computeIfPresent(id, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        }));
+    }
+}
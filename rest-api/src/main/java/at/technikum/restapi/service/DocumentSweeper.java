@@ -0,0 +1,6 @@
+package at.technikum.restapi.service;
+
+public interface DocumentSweeper {
+
+    int sweep();
+}
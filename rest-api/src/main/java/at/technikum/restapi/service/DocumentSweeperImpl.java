@@ -0,0 +1,168 @@
+package at.technikum.restapi.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import at.technikum.restapi.persistence.model.Document;
+import at.technikum.restapi.persistence.model.Document.ProcessingStatus;
+import at.technikum.restapi.persistence.repository.DocumentRepository;
+import at.technikum.restapi.service.messaging.publisher.DocumentPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically republishes documents whose processing status has not advanced within the
+ * configured SLA (lost message, crashed worker, broker outage). Work is done in small batches
+ * with a pause in between so a large backlog does not flood the worker queues at once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sweeper", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DocumentSweeperImpl implements DocumentSweeper {
+
+    private static final Set<ProcessingStatus> OCR_STAGE = EnumSet.of(
+            ProcessingStatus.PENDING,
+            ProcessingStatus.OCR_PROCESSING);
+
+    private static final Set<ProcessingStatus> GENAI_STAGE = EnumSet.of(
+            ProcessingStatus.OCR_COMPLETED,
+            ProcessingStatus.GENAI_PROCESSING);
+
+    private static final List<ProcessingStatus> IN_FLIGHT = List.of(
+            ProcessingStatus.PENDING,
+            ProcessingStatus.OCR_PROCESSING,
+            ProcessingStatus.OCR_COMPLETED,
+            ProcessingStatus.GENAI_PROCESSING);
+
+    private final DocumentRepository repository;
+    private final DocumentService documentService;
+    private final DocumentPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${sweeper.sla:PT30M}")
+    private Duration sla;
+
+    @Value("${sweeper.batch-size:50}")
+    private int batchSize;
+
+    @Value("${sweeper.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${sweeper.batch-pause:PT2S}")
+    private Duration batchPause;
+
+    @Value("${sweeper.max-attempts:3}")
+    private int maxAttempts;
+
+    @Override
+    @Scheduled(initialDelayString = "${sweeper.initial-delay:PT1M}", fixedDelayString = "${sweeper.interval:PT5M}")
+    public int sweep() {
+        final Instant cutoff = Instant.now().minus(sla);
+        int total = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            final int count = sweepBatch(cutoff);
+            total += count;
+
+            if (count < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Sweeper republished or failed {} stuck document(s) older than {}", total, sla);
+        } else {
+            log.debug("Sweeper found no stuck documents");
+        }
+        return total;
+    }
+
+    // Each document is claimed in its own short transaction and only republished after that
+    // claim committed: a conflict on one document cannot roll back the rest of the batch, and no
+    // message goes out for bookkeeping that was never stored.
+    private int sweepBatch(final Instant cutoff) {
+        final List<Document> stuck = transactionTemplate.execute(status -> loadStuck(cutoff));
+        if (stuck == null) {
+            return 0;
+        }
+
+        for (final Document document : stuck) {
+            try {
+                sweepDocument(document);
+            } catch (final Exception e) {
+                // Keep going - the document stays eligible for the next sweep
+                log.error("Sweeper failed to reprocess document {}: {}", document.getId(), e.getMessage(), e);
+            }
+        }
+        return stuck.size();
+    }
+
+    private List<Document> loadStuck(final Instant cutoff) {
+        final List<Document> stuck = repository.findStuck(IN_FLIGHT, cutoff, PageRequest.of(0, batchSize));
+        for (final Document document : stuck) {
+            // The GenAI request carries the OCR text, which can only be loaded while the session is open
+            if (GENAI_STAGE.contains(document.getProcessingStatus())) {
+                document.getOcrText();
+            }
+        }
+        return stuck;
+    }
+
+    private void sweepDocument(final Document document) {
+        final int attempts = document.getSweepAttempts();
+        final Integer claimed = transactionTemplate.execute(status -> repository.markSwept(
+                document.getId(), document.getProcessingStatus(), attempts, Instant.now()));
+
+        if (claimed == null || claimed == 0) {
+            log.debug("Document {} changed since it was found stuck, skipping", document.getId());
+            return;
+        }
+        if (attempts >= maxAttempts) {
+            giveUp(document, attempts);
+        } else {
+            republish(document, attempts + 1);
+        }
+    }
+
+    private void republish(final Document document, final int attempt) {
+        final ProcessingStatus status = document.getProcessingStatus();
+        log.warn("Document {} stuck in {} since {}, republishing (attempt {}/{})",
+                document.getId(), status, document.getCreatedAt(), attempt, maxAttempts);
+
+        if (OCR_STAGE.contains(status)) {
+            publisher.publishDocumentForOcr(document);
+        } else if (GENAI_STAGE.contains(status)) {
+            publisher.publishDocumentForGenAI(document);
+        }
+    }
+
+    private void giveUp(final Document document, final int attempts) {
+        final String error = "Processing timed out after " + attempts + " reprocessing attempt(s)";
+        if (OCR_STAGE.contains(document.getProcessingStatus())) {
+            documentService.markOcrAsFailed(document.getId(), error);
+        } else {
+            documentService.markGenAIAsFailed(document.getId(), error);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
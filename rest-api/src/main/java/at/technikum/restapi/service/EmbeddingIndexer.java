@@ -0,0 +1,13 @@
+package at.technikum.restapi.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import at.technikum.restapi.service.event.DocumentOcrCompletedEvent;
+
+public interface EmbeddingIndexer {
+
+    void enqueue(final Collection<UUID> documentIds);
+
+    void onOcrCompleted(final DocumentOcrCompletedEvent event);
+}
@@ -0,0 +1,150 @@
+package at.technikum.restapi.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import at.technikum.restapi.persistence.model.ChunkDocument;
+import at.technikum.restapi.persistence.model.DocumentContent;
+import at.technikum.restapi.persistence.repository.ChunkDocumentRepository;
+import at.technikum.restapi.persistence.repository.DocumentContentRepository;
+import at.technikum.restapi.service.event.DocumentOcrCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embeds the OCR text of documents in the background and stores one vector per text chunk in
+ * the {@code document_chunks} index.
+ * <p>
+ * Document IDs are queued once their OCR text is committed and drained by a single
+ * {@code embeddingExecutor} thread in batches, so the RabbitMQ listener only pays for an
+ * enqueue. The queue is in memory: IDs still queued when the instance stops are picked up
+ * again by the next reindex.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmbeddingIndexerImpl implements EmbeddingIndexer {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    private final DocumentContentRepository contentRepository;
+    private final ChunkDocumentRepository chunkRepository;
+    private final EmbeddingService embeddingService;
+    private final Executor embeddingExecutor;
+
+    private final BlockingQueue<UUID> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    @Value("${EMBEDDING_DOCUMENT_BATCH_SIZE:8}")
+    private int documentBatchSize;
+
+    @Value("${EMBEDDING_MODEL_BATCH_SIZE:32}")
+    private int modelBatchSize;
+
+    @Value("${EMBEDDING_CHUNK_WORDS:200}")
+    private int chunkWords;
+
+    @Value("${EMBEDDING_CHUNK_OVERLAP_WORDS:40}")
+    private int chunkOverlapWords;
+
+    @Value("${EMBEDDING_MAX_CHUNKS:64}")
+    private int maxChunks;
+
+    @Override
+    public void enqueue(final Collection<UUID> documentIds) {
+        if (!embeddingService.isEnabled() || documentIds.isEmpty()) {
+            return;
+        }
+        for (final UUID documentId : documentIds) {
+            if (!queue.offer(documentId)) {
+                log.warn("Embedding queue full, skipping document {} until the next reindex", documentId);
+            }
+        }
+        scheduleDrain();
+    }
+
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOcrCompleted(final DocumentOcrCompletedEvent event) {
+        enqueue(List.of(event.documentId()));
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            embeddingExecutor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            final List<UUID> batch = new ArrayList<>(documentBatchSize);
+            while (queue.drainTo(batch, documentBatchSize) > 0) {
+                try {
+                    index(batch);
+                } catch (final Exception e) {
+                    log.error("✗ Failed to embed documents {}: {}", batch, e.getMessage(), e);
+                }
+                batch.clear();
+            }
+        } finally {
+            draining.set(false);
+            // IDs enqueued between the last drainTo and the reset above must not be stranded
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private void index(final List<UUID> documentIds) {
+        final Map<UUID, String> texts = contentRepository.findAllById(documentIds).stream()
+                .filter(content -> content.getOcrText() != null)
+                .collect(Collectors.toMap(DocumentContent::getDocumentId, DocumentContent::getOcrText));
+
+        // Flattened chunks of all documents, so model batches are filled across document borders
+        final List<UUID> owners = new ArrayList<>();
+        final List<String> inputs = new ArrayList<>();
+        texts.forEach((documentId, text) -> {
+            final List<String> documentChunks = TextChunker.chunk(text, chunkWords, chunkOverlapWords, maxChunks);
+            documentChunks.forEach(chunk -> owners.add(documentId));
+            inputs.addAll(documentChunks);
+        });
+
+        final List<ChunkDocument> embedded = new ArrayList<>(inputs.size());
+        final Map<UUID, Integer> positions = new HashMap<>();
+        for (int from = 0; from < inputs.size(); from += modelBatchSize) {
+            final int to = Math.min(from + modelBatchSize, inputs.size());
+            final List<float[]> vectors = embeddingService.embed(inputs.subList(from, to));
+            for (int i = from; i < to; i++) {
+                final UUID documentId = owners.get(i);
+                final int position = positions.merge(documentId, 1, Integer::sum) - 1;
+                embedded.add(ChunkDocument.builder()
+                        .id(documentId + "_" + position)
+                        .documentId(documentId)
+                        .chunk(position)
+                        .vector(vectors.get(i - from))
+                        .build());
+            }
+        }
+
+        // Re-OCRed documents may now have fewer chunks than before
+        chunkRepository.deleteByDocumentIdIn(documentIds);
+        if (!embedded.isEmpty()) {
+            chunkRepository.saveAll(embedded);
+        }
+        log.info("✓ Embedded {} chunks of {} documents", embedded.size(), texts.size());
+    }
+}
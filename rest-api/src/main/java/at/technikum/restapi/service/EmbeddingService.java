@@ -0,0 +1,10 @@
+package at.technikum.restapi.service;
+
+import java.util.List;
+
+public interface EmbeddingService {
+
+    boolean isEnabled();
+
+    List<float[]> embed(final List<String> texts);
+}
@@ -0,0 +1,94 @@
+package at.technikum.restapi.service;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import ai.djl.MalformedModelException;
+import ai.djl.huggingface.translator.TextEmbeddingTranslatorFactory;
+import ai.djl.inference.Predictor;
+import ai.djl.repository.zoo.Criteria;
+import ai.djl.repository.zoo.ModelNotFoundException;
+import ai.djl.repository.zoo.ZooModel;
+import ai.djl.translate.TranslateException;
+import at.technikum.restapi.service.exception.DocumentProcessingException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Computes sentence embeddings with a local sentence-transformer model on the CPU, no external
+ * service involved. The model is downloaded into the DJL cache on first use and loaded lazily,
+ * so instances with embeddings disabled never pay for it.
+ */
+@Slf4j
+@Service
+public class EmbeddingServiceImpl implements EmbeddingService {
+
+    @Value("${EMBEDDINGS_ENABLED:false}")
+    private boolean enabled;
+
+    // Multilingual model for the mostly German and English corpus; must produce 384-dim vectors
+    @Value("${EMBEDDING_MODEL_URL:djl://ai.djl.huggingface.pytorch/sentence-transformers/paraphrase-multilingual-MiniLM-L12-v2}")
+    private String modelUrl;
+
+    private volatile ZooModel<String, float[]> model;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public List<float[]> embed(final List<String> texts) {
+        if (texts.isEmpty()) {
+            return List.of();
+        }
+        // Predictors are not thread-safe but cheap to create; the model is shared
+        try (Predictor<String, float[]> predictor = model().newPredictor()) {
+            return predictor.batchPredict(texts);
+        } catch (final TranslateException e) {
+            throw new DocumentProcessingException("Failed to compute embeddings", e);
+        }
+    }
+
+    private ZooModel<String, float[]> model() {
+        if (!enabled) {
+            throw new IllegalStateException("Embeddings are disabled (EMBEDDINGS_ENABLED=false)");
+        }
+        ZooModel<String, float[]> loaded = model;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = model;
+                if (loaded == null) {
+                    loaded = load();
+                    model = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private ZooModel<String, float[]> load() {
+        log.info("Loading embedding model {}", modelUrl);
+        try {
+            return Criteria.builder()
+                    .setTypes(String.class, float[].class)
+                    .optModelUrls(modelUrl)
+                    .optEngine("PyTorch")
+                    .optTranslatorFactory(new TextEmbeddingTranslatorFactory())
+                    .build()
+                    .loadModel();
+        } catch (final ModelNotFoundException | MalformedModelException | IOException e) {
+            throw new DocumentProcessingException("Failed to load embedding model " + modelUrl, e);
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (model != null) {
+            model.close();
+        }
+    }
+}
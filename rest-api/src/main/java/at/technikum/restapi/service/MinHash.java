@@ -0,0 +1,130 @@
+package at.technikum.restapi.service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * MinHash signatures over word 3-shingles and their LSH band buckets.
+ * <p>
+ * The share of equal signature positions estimates the Jaccard similarity of two texts. With
+ * 16 bands of 8 rows, two documents land in a common bucket with a probability of
+ * 1 - (1 - s^8)^16: about 6% at a similarity of 0.5, 60% at 0.7, 80% at 0.75 and over 98% at
+ * 0.85, so the buckets find near-duplicates without comparing against every document.
+ */
+final class MinHash {
+
+    static final int NUM_HASHES = 128;
+    static final int BANDS = 16;
+    static final int ROWS = NUM_HASHES / BANDS;
+
+    private static final int SHINGLE_WORDS = 3;
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // Fixed seed: signatures are persisted and must stay comparable across restarts and instances
+    private static final long[] MULTIPLIERS = new long[NUM_HASHES];
+    private static final long[] INCREMENTS = new long[NUM_HASHES];
+
+    static {
+        final SplittableRandom random = new SplittableRandom(0x5EED_CAFEL);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1L;
+            INCREMENTS[i] = random.nextLong();
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /**
+     * @return the signature, or {@code null} if the text contains no words
+     */
+    static int[] signature(final String text) {
+        if (text == null) {
+            return null;
+        }
+        final String[] words = Arrays.stream(NON_WORD.split(text.toLowerCase(Locale.ROOT)))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+        if (words.length == 0) {
+            return null;
+        }
+
+        final int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        final int shingles = Math.max(1, words.length - SHINGLE_WORDS + 1);
+        for (int start = 0; start < shingles; start++) {
+            final long hash = shingleHash(words, start, Math.min(start + SHINGLE_WORDS, words.length));
+            // One base hash per shingle, permuted 128 times by cheap multiply-add
+            for (int i = 0; i < NUM_HASHES; i++) {
+                final int value = (int) ((MULTIPLIERS[i] * hash + INCREMENTS[i]) >>> 32);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double similarity(final int[] a, final int[] b) {
+        int equal = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / NUM_HASHES;
+    }
+
+    // The band number is part of the hash, so one bucket column serves all bands
+    static long[] bandBuckets(final int[] signature) {
+        final long[] buckets = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long hash = FNV_OFFSET ^ band;
+            for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+                hash = (hash ^ signature[row]) * FNV_PRIME;
+            }
+            buckets[band] = mix(hash);
+        }
+        return buckets;
+    }
+
+    static byte[] toBytes(final int[] signature) {
+        final ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    static int[] fromBytes(final byte[] bytes) {
+        final int[] signature = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    private static long shingleHash(final String[] words, final int from, final int to) {
+        long hash = FNV_OFFSET;
+        for (int w = from; w < to; w++) {
+            final String word = words[w];
+            for (int c = 0; c < word.length(); c++) {
+                hash = (hash ^ word.charAt(c)) * FNV_PRIME;
+            }
+            hash = (hash ^ ' ') * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    // MurmurHash3 finalizer, spreads FNV's weak low bits
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
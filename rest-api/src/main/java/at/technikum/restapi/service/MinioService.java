@@ -4,17 +4,25 @@ import java.io.InputStream;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import at.technikum.restapi.service.event.OcrTextConsumedEvent;
+
 public interface MinioService {
 
     String uploadFile(final MultipartFile file);
 
+    String uploadStream(final InputStream stream, final long size, final String filename, final String contentType);
+
     InputStream downloadFile(final String objectKey);
 
     void deleteFile(final String objectKey);
 
     String downloadOcrText(final String objectKey);
 
+    void uploadOcrText(final String objectKey, final String text);
+
     void deleteOcrText(final String objectKey);
 
+    void onOcrTextConsumed(final OcrTextConsumedEvent event);
+
     String generatePresignedUrl(final String objectKey, final int expiryMinutes);
 }
@@ -1,13 +1,17 @@
 package at.technikum.restapi.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.multipart.MultipartFile;
 
+import at.technikum.restapi.service.event.OcrTextConsumedEvent;
 import at.technikum.restapi.service.exception.DocumentProcessingException;
 import at.technikum.restapi.service.exception.DocumentUploadException;
 import io.minio.BucketExistsArgs;
@@ -26,6 +30,9 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class MinioServiceImpl implements MinioService {
 
+    // Part size used when the object size is not known up front (MinIO minimum is 5MB)
+    private static final long UNKNOWN_SIZE_PART_SIZE = 10L * 1024 * 1024;
+
     private final MinioClient minioClient;
 
     @Value("${minio.documents-bucket:paperless-documents}")
@@ -49,19 +56,30 @@ public class MinioServiceImpl implements MinioService {
 
     @Override
     public String uploadFile(final MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return uploadStream(in, file.getSize(), file.getOriginalFilename(), file.getContentType());
+        } catch (final DocumentUploadException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new DocumentUploadException("Failed to upload document to MinIO", e);
+        }
+    }
+
+    @Override
+    public String uploadStream(final InputStream stream, final long size, final String filename,
+            final String contentType) {
         try {
             ensureBucket(bucketName);
-            final String objectKey = UUID.randomUUID() + "-" + file.getOriginalFilename();
-
-            try (InputStream in = file.getInputStream()) {
-                minioClient.putObject(
-                        PutObjectArgs.builder()
-                                .bucket(bucketName)
-                                .object(objectKey)
-                                .stream(in, file.getSize(), -1)
-                                .contentType(file.getContentType())
-                                .build());
-            }
+            final String objectKey = UUID.randomUUID() + "-" + filename;
+
+            // Unknown size (e.g. streamed archive entries) is sent as a multipart upload
+            minioClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectKey)
+                            .stream(stream, size, size < 0 ? UNKNOWN_SIZE_PART_SIZE : -1)
+                            .contentType(contentType)
+                            .build());
 
             log.info("Uploaded document '{}' to bucket '{}'", objectKey, bucketName);
             return objectKey;
@@ -115,6 +133,12 @@ public class MinioServiceImpl implements MinioService {
         }
     }
 
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOcrTextConsumed(final OcrTextConsumedEvent event) {
+        deleteOcrText(event.objectKey());
+    }
+
     @Override
     public String downloadOcrText(final String objectKey) {
         try {
@@ -132,6 +156,24 @@ public class MinioServiceImpl implements MinioService {
         }
     }
 
+    @Override
+    public void uploadOcrText(final String objectKey, final String text) {
+        try {
+            ensureBucket(ocrTextBucketName);
+            final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            minioClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(ocrTextBucketName)
+                            .object(objectKey)
+                            .stream(new ByteArrayInputStream(bytes), bytes.length, -1)
+                            .contentType("text/plain; charset=utf-8")
+                            .build());
+            log.info("Uploaded OCR text '{}' ({} bytes) to bucket '{}'", objectKey, bytes.length, ocrTextBucketName);
+        } catch (final Exception e) {
+            throw new DocumentProcessingException("Failed to upload OCR text to MinIO: " + objectKey, e);
+        }
+    }
+
     @Override
     public String generatePresignedUrl(final String objectKey, final int expiryMinutes) {
         try {
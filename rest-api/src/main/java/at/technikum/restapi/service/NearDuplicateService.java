@@ -0,0 +1,13 @@
+package at.technikum.restapi.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import at.technikum.restapi.service.dto.SimilarityMatch;
+
+public interface NearDuplicateService {
+
+    void updateSignature(final UUID documentId, final String text);
+
+    List<SimilarityMatch> findSimilar(final UUID documentId, final double minSimilarity, final int limit);
+}
@@ -0,0 +1,87 @@
+package at.technikum.restapi.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import at.technikum.restapi.persistence.model.DocumentLshBucket;
+import at.technikum.restapi.persistence.model.DocumentSignature;
+import at.technikum.restapi.persistence.repository.DocumentLshBucketRepository;
+import at.technikum.restapi.persistence.repository.DocumentSignatureRepository;
+import at.technikum.restapi.service.dto.SimilarityMatch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finds re-scans and slightly different copies of a document by the MinHash signature of its
+ * OCR text. Candidates come from the LSH bucket index (one indexed probe per band) and are then
+ * ranked by their estimated similarity, so a lookup never scans all signatures.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NearDuplicateServiceImpl implements NearDuplicateService {
+
+    private final DocumentSignatureRepository signatureRepository;
+    private final DocumentLshBucketRepository bucketRepository;
+
+    // Upper bound for very common buckets (boilerplate forms), keeps a lookup cheap
+    @Value("${SIMILAR_MAX_CANDIDATES:1000}")
+    private int maxCandidates;
+
+    @Override
+    @Transactional
+    public void updateSignature(final UUID documentId, final String text) {
+        final int[] signature = MinHash.signature(text);
+
+        bucketRepository.deleteByDocumentId(documentId);
+        if (signature == null) {
+            signatureRepository.deleteById(documentId);
+            return;
+        }
+
+        signatureRepository.save(DocumentSignature.builder()
+                .documentId(documentId)
+                .minhash(MinHash.toBytes(signature))
+                .build());
+
+        final long[] buckets = MinHash.bandBuckets(signature);
+        bucketRepository.saveAll(IntStream.range(0, MinHash.BANDS)
+                .mapToObj(band -> DocumentLshBucket.builder()
+                        .documentId(documentId)
+                        .band((short) band)
+                        .bucket(buckets[band])
+                        .build())
+                .toList());
+        log.debug("Stored MinHash signature of document {}", documentId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SimilarityMatch> findSimilar(final UUID documentId, final double minSimilarity, final int limit) {
+        final var own = signatureRepository.findById(documentId);
+        if (own.isEmpty()) {
+            return List.of();
+        }
+
+        final int[] signature = MinHash.fromBytes(own.get().getMinhash());
+        final List<Long> buckets = Arrays.stream(MinHash.bandBuckets(signature)).boxed().toList();
+        final List<UUID> candidates = bucketRepository.findCandidates(documentId, buckets,
+                PageRequest.of(0, maxCandidates));
+
+        return signatureRepository.findAllById(candidates).stream()
+                .map(candidate -> new SimilarityMatch(candidate.getDocumentId(),
+                        MinHash.similarity(signature, MinHash.fromBytes(candidate.getMinhash()))))
+                .filter(match -> match.similarity() >= minSimilarity)
+                .sorted(Comparator.comparingDouble(SimilarityMatch::similarity).reversed())
+                .limit(limit)
+                .toList();
+    }
+}
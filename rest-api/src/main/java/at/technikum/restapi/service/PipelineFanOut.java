@@ -0,0 +1,11 @@
+package at.technikum.restapi.service;
+
+import at.technikum.restapi.service.event.DocumentReadyForSummaryEvent;
+import at.technikum.restapi.service.event.DocumentSummarizedEvent;
+
+public interface PipelineFanOut {
+
+    void onReadyForSummary(final DocumentReadyForSummaryEvent event);
+
+    void onSummarized(final DocumentSummarizedEvent event);
+}
@@ -0,0 +1,60 @@
+package at.technikum.restapi.service;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import at.technikum.restapi.persistence.model.Document;
+import at.technikum.restapi.service.event.DocumentReadyForSummaryEvent;
+import at.technikum.restapi.service.event.DocumentSummarizedEvent;
+import at.technikum.restapi.service.messaging.publisher.DocumentPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the slow follow-up steps of a worker response once its transaction has committed, so
+ * the database connection is released before any Elasticsearch or RabbitMQ round trip.
+ * <p>
+ * After OCR, indexing the text and requesting the summary are independent and run side by side
+ * on the {@code pipelineExecutor}. Elasticsearch writes carry the document version, so a slow
+ * OCR index write cannot overwrite the summary that overtook it.
+ * A failed GenAI publish leaves the document in {@code OCR_COMPLETED}, where the stuck-document
+ * sweeper picks it up again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PipelineFanOutImpl implements PipelineFanOut {
+
+    private final DocumentSearchService documentSearchService;
+    private final DocumentPublisher publisher;
+    private final Executor pipelineExecutor;
+
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReadyForSummary(final DocumentReadyForSummaryEvent event) {
+        final Document document = event.document();
+        // Both steps only read the committed, fully loaded document
+        pipelineExecutor.execute(() -> documentSearchService.updateDocumentAfterOcr(document));
+        pipelineExecutor.execute(() -> requestSummary(document));
+    }
+
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSummarized(final DocumentSummarizedEvent event) {
+        final Document document = event.document();
+        pipelineExecutor.execute(() -> documentSearchService.updateDocumentAfterGenAI(document));
+    }
+
+    private void requestSummary(final Document document) {
+        try {
+            // Publish to GenAI queue with TRUNCATED text (to avoid RabbitMQ size limits)
+            publisher.publishDocumentForGenAI(document);
+        } catch (final Exception e) {
+            log.error("Failed to publish GenAI request for document {}, leaving it to the sweeper: {}",
+                    document.getId(), e.getMessage(), e);
+        }
+    }
+}
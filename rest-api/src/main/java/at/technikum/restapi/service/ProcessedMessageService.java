@@ -0,0 +1,10 @@
+package at.technikum.restapi.service;
+
+public interface ProcessedMessageService {
+
+    boolean isProcessed(final String messageId);
+
+    void markProcessed(final String messageId);
+
+    int purge();
+}
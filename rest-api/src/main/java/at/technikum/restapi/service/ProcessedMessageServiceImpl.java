@@ -0,0 +1,67 @@
+package at.technikum.restapi.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import at.technikum.restapi.persistence.model.ProcessedMessage;
+import at.technikum.restapi.persistence.repository.ProcessedMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Remembers the message IDs of applied worker responses so a redelivery (consumer restart,
+ * lost ack) is skipped with a single primary-key lookup. This is only the fast path: the
+ * processing-status guards in the document service still reject duplicates that slip through,
+ * e.g. responses without a message ID or a crash between applying and recording.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProcessedMessageServiceImpl implements ProcessedMessageService {
+
+    private final ProcessedMessageRepository repository;
+
+    // Redeliveries happen within minutes; a week leaves room for long broker outages
+    @Value("${PROCESSED_MESSAGE_RETENTION:P7D}")
+    private Duration retention;
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isProcessed(final String messageId) {
+        return messageId != null && repository.existsById(messageId);
+    }
+
+    @Override
+    public void markProcessed(final String messageId) {
+        if (messageId == null) {
+            return;
+        }
+        try {
+            repository.save(ProcessedMessage.builder()
+                    .messageId(messageId)
+                    .processedAt(Instant.now())
+                    .build());
+        } catch (final DataAccessException e) {
+            // The result is already applied; a lost record only costs a guarded duplicate later
+            log.warn("Failed to record processed message {}: {}", messageId, e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(initialDelayString = "${PROCESSED_MESSAGE_PURGE_INITIAL_DELAY:PT10M}",
+            fixedDelayString = "${PROCESSED_MESSAGE_PURGE_INTERVAL:PT1H}")
+    public int purge() {
+        final int purged = repository.deleteProcessedBefore(Instant.now().minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} processed message IDs", purged);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,40 @@
+package at.technikum.restapi.service;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache key for {@code search(query, categoryNames)}: the query is trimmed, lower-cased and its
+ * whitespace collapsed, the categories are lower-cased and sorted, so equivalent searches share
+ * one entry.
+ */
+@Component(SearchCacheKeyGenerator.NAME)
+public class SearchCacheKeyGenerator implements KeyGenerator {
+
+    public static final String NAME = "searchCacheKeyGenerator";
+
+    @Override
+    public Object generate(final Object target, final Method method, final Object... params) {
+        return key((String) params[0], (Collection<?>) params[1]);
+    }
+
+    static Key key(final String query, final Collection<?> categoryNames) {
+        final String normalizedQuery = query == null
+                ? ""
+                : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        final SortedSet<String> categories = new TreeSet<>();
+        if (categoryNames != null) {
+            categoryNames.forEach(name -> categories.add(name.toString().trim().toLowerCase(Locale.ROOT)));
+        }
+        return new Key(normalizedQuery, categories);
+    }
+
+    record Key(String query, SortedSet<String> categories) {
+    }
+}
@@ -0,0 +1,12 @@
+package at.technikum.restapi.service;
+
+import java.util.Optional;
+
+public interface SummaryCacheService {
+
+    Optional<String> lookup(final String ocrText);
+
+    void store(final String ocrText, final String summaryText);
+
+    int evict();
+}
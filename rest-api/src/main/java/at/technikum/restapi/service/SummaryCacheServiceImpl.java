@@ -0,0 +1,119 @@
+package at.technikum.restapi.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import at.technikum.restapi.persistence.model.SummaryCacheEntry;
+import at.technikum.restapi.persistence.repository.SummaryCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Remembers GenAI summaries by a fingerprint of the OCR text they were generated from, so form
+ * letters and templates that arrive again are summarized without a round trip through the
+ * GenAI worker. The fingerprint covers exactly the text the worker would receive (truncated to
+ * SUMMARY_MAX_INPUT_LENGTH), normalized for case and whitespace. Entries unused for
+ * SUMMARY_CACHE_TTL and the least recently used ones beyond SUMMARY_CACHE_MAX_ENTRIES are
+ * evicted periodically.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SummaryCacheServiceImpl implements SummaryCacheService {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SummaryCacheRepository repository;
+
+    @Value("${SUMMARY_CACHE_ENABLED:true}")
+    private boolean enabled;
+
+    @Value("${SUMMARY_CACHE_TTL:P90D}")
+    private Duration ttl;
+
+    @Value("${SUMMARY_CACHE_MAX_ENTRIES:100000}")
+    private int maxEntries;
+
+    // Must match DocumentPublisherImpl, the worker never sees text beyond it
+    @Value("${SUMMARY_MAX_INPUT_LENGTH:300000}")
+    private int summaryMaxInputLength;
+
+    @Override
+    @Transactional
+    public Optional<String> lookup(final String ocrText) {
+        if (!enabled || ocrText == null || ocrText.isBlank()) {
+            return Optional.empty();
+        }
+
+        return repository.findById(fingerprint(ocrText)).map(entry -> {
+            entry.setLastUsedAt(Instant.now());
+            return entry.getSummaryText();
+        });
+    }
+
+    // Own transaction: a lost insert race must not roll back the GenAI result it accompanies
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void store(final String ocrText, final String summaryText) {
+        if (!enabled || ocrText == null || ocrText.isBlank() || summaryText == null || summaryText.isBlank()) {
+            return;
+        }
+
+        final Instant now = Instant.now();
+        repository.save(SummaryCacheEntry.builder()
+                .fingerprint(fingerprint(ocrText))
+                .summaryText(summaryText)
+                .createdAt(now)
+                .lastUsedAt(now)
+                .build());
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(initialDelayString = "${SUMMARY_CACHE_EVICT_INITIAL_DELAY:PT10M}",
+            fixedDelayString = "${SUMMARY_CACHE_EVICT_INTERVAL:PT6H}")
+    public int evict() {
+        int evicted = repository.deleteUnusedSince(Instant.now().minus(ttl));
+
+        final var overflow = repository.findLastUsedAtNewestFirst(PageRequest.of(maxEntries, 1));
+        if (!overflow.isEmpty()) {
+            // Entries sharing the boundary timestamp survive; the cap is approximate by design
+            evicted += repository.deleteUnusedSince(overflow.get(0));
+        }
+
+        if (evicted > 0) {
+            log.info("Evicted {} summary cache entries", evicted);
+        }
+        return evicted;
+    }
+
+    String fingerprint(final String ocrText) {
+        final String input = ocrText.length() > summaryMaxInputLength
+                ? ocrText.substring(0, summaryMaxInputLength)
+                : ocrText;
+        final String normalized = WHITESPACE.matcher(input.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (final NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
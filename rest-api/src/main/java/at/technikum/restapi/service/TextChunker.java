@@ -0,0 +1,37 @@
+package at.technikum.restapi.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Splits OCR text into overlapping word windows small enough for the embedding model's input
+ * limit, so a match in the middle of a long document is not diluted by the rest of it.
+ */
+final class TextChunker {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TextChunker() {
+    }
+
+    static List<String> chunk(final String text, final int chunkWords, final int overlapWords, final int maxChunks) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        // Fixed-size view over the array; windows are subList views, nothing is copied per chunk
+        final List<String> words = Arrays.asList(WHITESPACE.split(text.strip()));
+        final int step = Math.max(1, chunkWords - overlapWords);
+
+        final List<String> chunks = new ArrayList<>();
+        for (int start = 0; start < words.size() && chunks.size() < maxChunks; start += step) {
+            final int end = Math.min(start + chunkWords, words.size());
+            chunks.add(String.join(" ", words.subList(start, end)));
+            if (end == words.size()) {
+                break;
+            }
+        }
+        return chunks;
+    }
+}
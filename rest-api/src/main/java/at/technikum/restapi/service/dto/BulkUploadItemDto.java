@@ -0,0 +1,11 @@
+package at.technikum.restapi.service.dto;
+
+import lombok.Builder;
+
+@Builder
+public record BulkUploadItemDto(
+        String filename,
+        boolean success,
+        DocumentSummaryDto document, // Set when the file was stored
+        String error) { // Set when the file was rejected or failed
+}
@@ -0,0 +1,13 @@
+package at.technikum.restapi.service.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record BulkUploadResultDto(
+        int total,
+        int succeeded,
+        int failed,
+        List<BulkUploadItemDto> items) {
+}
@@ -0,0 +1,11 @@
+package at.technikum.restapi.service.dto;
+
+import lombok.Builder;
+
+@Builder
+public record DeadLetterQueueDto(
+        String name, // "ocr" or "genai"
+        String queue, // Dead-letter queue name in RabbitMQ
+        String sourceQueue, // Response queue messages are replayed to
+        long messageCount) {
+}
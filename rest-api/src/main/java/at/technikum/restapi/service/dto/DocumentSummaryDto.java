@@ -16,5 +16,6 @@ public record DocumentSummaryDto(
         String contentType,
         ProcessingStatus processingStatus,
         Instant createdAt,
-        List<CategoryDto> categories) {
+        List<CategoryDto> categories,
+        List<String> highlights) { // matched OCR/summary snippets, only set for search results
 }
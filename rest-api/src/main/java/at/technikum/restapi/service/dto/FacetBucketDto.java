@@ -0,0 +1,9 @@
+package at.technikum.restapi.service.dto;
+
+import lombok.Builder;
+
+@Builder
+public record FacetBucketDto(
+        String key,
+        long count) {
+}
@@ -0,0 +1,16 @@
+package at.technikum.restapi.service.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+// Free-text query plus the facet values the user drilled down into (all optional)
+@Builder
+public record FacetedSearchRequestDto(
+        String query,
+        List<String> categories,
+        List<String> contentTypes,
+        List<String> processingStatuses,
+        int page,
+        int size) {
+}
@@ -0,0 +1,14 @@
+package at.technikum.restapi.service.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record FacetedSearchResultDto(
+        long total,
+        int page,
+        int size,
+        List<DocumentSummaryDto> documents,
+        SearchFacetsDto facets) {
+}
@@ -0,0 +1,14 @@
+package at.technikum.restapi.service.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Builder;
+
+// Fused ranking of a hybrid query, before the hits are hydrated from Postgres
+@Builder
+public record HybridSearchHits(
+        List<UUID> ids,
+        Map<UUID, List<String>> highlights) {
+}
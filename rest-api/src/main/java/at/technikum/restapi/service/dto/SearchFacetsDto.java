@@ -0,0 +1,14 @@
+package at.technikum.restapi.service.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record SearchFacetsDto(
+        List<FacetBucketDto> categories,
+        List<FacetBucketDto> contentTypes,
+        List<FacetBucketDto> processingStatuses,
+        List<FacetBucketDto> createdAt, // monthly buckets, key "yyyy-MM"
+        List<FacetBucketDto> fileSize) {
+}
@@ -0,0 +1,17 @@
+package at.technikum.restapi.service.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import at.technikum.restapi.persistence.model.SearchDocument;
+import lombok.Builder;
+
+// Raw page of a search_after query, before the hits are hydrated from Postgres
+@Builder
+public record SearchHitsPage(
+        long total,
+        List<SearchDocument> hits,
+        Map<UUID, List<String>> highlights,
+        String nextCursor) {
+}
@@ -0,0 +1,12 @@
+package at.technikum.restapi.service.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record SearchPageDto(
+        long total,
+        List<DocumentSummaryDto> documents,
+        String nextCursor) { // null on the last page
+}
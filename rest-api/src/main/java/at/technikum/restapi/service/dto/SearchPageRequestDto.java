@@ -0,0 +1,17 @@
+package at.technikum.restapi.service.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+
+import lombok.Builder;
+
+@Builder
+public record SearchPageRequestDto(
+        String query,
+        List<String> categories,
+        SearchSort sort,
+        Sort.Direction direction,
+        int size,
+        String cursor) { // opaque, taken from the previous page's nextCursor
+}
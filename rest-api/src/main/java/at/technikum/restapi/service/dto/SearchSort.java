@@ -0,0 +1,10 @@
+package at.technikum.restapi.service.dto;
+
+// Sort orders offered by paginated search; every order is completed with the document ID
+// as tiebreaker so search_after cursors are stable
+public enum SearchSort {
+    RELEVANCE, // _score
+    CREATED_AT,
+    FILE_SIZE,
+    TITLE // title.keyword
+}
@@ -0,0 +1,9 @@
+package at.technikum.restapi.service.dto;
+
+import lombok.Builder;
+
+@Builder
+public record SimilarDocumentDto(
+        DocumentSummaryDto document,
+        double similarity) { // estimated Jaccard similarity of the OCR text, 0..1
+}
@@ -0,0 +1,9 @@
+package at.technikum.restapi.service.dto;
+
+import java.util.UUID;
+
+// Estimated Jaccard similarity of another document's OCR text
+public record SimilarityMatch(
+        UUID documentId,
+        double similarity) {
+}
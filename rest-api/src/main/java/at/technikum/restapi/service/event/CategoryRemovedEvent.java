@@ -0,0 +1,11 @@
+package at.technikum.restapi.service.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published when a category was deleted and detached from its documents in bulk. Their search
+ * index entries still carry the category name until they are rewritten from the database.
+ */
+public record CategoryRemovedEvent(UUID categoryId, List<UUID> documentIds) {
+}
@@ -0,0 +1,10 @@
+package at.technikum.restapi.service.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a document's OCR text has been stored. Listeners bound to the transaction
+ * only see it once the text is committed.
+ */
+public record DocumentOcrCompletedEvent(UUID documentId) {
+}
@@ -0,0 +1,10 @@
+package at.technikum.restapi.service.event;
+
+import at.technikum.restapi.persistence.model.Document;
+
+/**
+ * Published when a document's OCR result is stored and it still needs a summary. Carries the
+ * fully loaded document (categories and text), so post-commit listeners need no second read.
+ */
+public record DocumentReadyForSummaryEvent(Document document) {
+}
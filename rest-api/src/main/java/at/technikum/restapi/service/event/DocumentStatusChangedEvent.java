@@ -0,0 +1,15 @@
+package at.technikum.restapi.service.event;
+
+import java.util.UUID;
+
+import at.technikum.restapi.persistence.model.Document.ProcessingStatus;
+
+/**
+ * Published whenever a document's processing status changes. Listeners bound to the
+ * transaction only see it once the new status is committed.
+ */
+public record DocumentStatusChangedEvent(
+        UUID documentId,
+        ProcessingStatus processingStatus,
+        String processingError) {
+}
@@ -0,0 +1,10 @@
+package at.technikum.restapi.service.event;
+
+import at.technikum.restapi.persistence.model.Document;
+
+/**
+ * Published when a document's summary is stored, whether it came from the GenAI worker, a
+ * near-duplicate or the summary cache. Carries the fully loaded document.
+ */
+public record DocumentSummarizedEvent(Document document) {
+}
@@ -0,0 +1,9 @@
+package at.technikum.restapi.service.event;
+
+/**
+ * Published when OCR text handed over through MinIO has been copied into the document.
+ * Listeners bound to the transaction only see it once the text is committed, so a rolled
+ * back (and retried) update can still download the object.
+ */
+public record OcrTextConsumedEvent(String objectKey) {
+}
@@ -0,0 +1,9 @@
+package at.technikum.restapi.service.exception;
+
+import java.util.UUID;
+
+public class DocumentConflictException extends RuntimeException {
+    public DocumentConflictException(final UUID id, final Throwable cause) {
+        super("Document " + id + " was modified concurrently, please retry", cause);
+    }
+}
@@ -21,6 +21,14 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND.value()));
     }
 
+    @ExceptionHandler(DocumentConflictException.class)
+    public ResponseEntity<ErrorResponse> handleDocumentConflict(final DocumentConflictException ex) {
+        log.warn("Document conflict: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(ex.getMessage(), HttpStatus.CONFLICT.value()));
+    }
+
     @ExceptionHandler(InvalidDocumentException.class)
     public ResponseEntity<ErrorResponse> handleInvalidDocument(final InvalidDocumentException ex) {
         log.error("Invalid document: {}", ex.getMessage());
@@ -5,9 +5,11 @@ import at.technikum.restapi.service.dto.WorkerStatusDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
 
 import at.technikum.restapi.persistence.model.Document;
 import at.technikum.restapi.persistence.model.SearchDocument;
+import at.technikum.restapi.persistence.repository.DocumentStatusView;
 import at.technikum.restapi.service.dto.DocumentDetailDto;
 import at.technikum.restapi.service.dto.DocumentSummaryDto;
 import at.technikum.restapi.service.messaging.dto.GenAIRequestDto;
@@ -16,7 +18,9 @@ import at.technikum.restapi.service.messaging.dto.OcrRequestDto;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, unmappedSourcePolicy = ReportingPolicy.IGNORE)
 public interface DocumentMapper {
@@ -25,10 +29,15 @@ public interface DocumentMapper {
 
     DocumentSummaryDto toSummaryDto(final SearchDocument entity);
 
+    @Mapping(target = "highlights", source = "highlights")
+    DocumentSummaryDto toSummaryDto(final Document entity, final List<String> highlights);
+
     DocumentDetailDto toDetailDto(final Document entity);
 
     WorkerStatusDto toWorkerStatusDto(final Document entity);
 
+    WorkerStatusDto toWorkerStatusDto(final DocumentStatusView view);
+
     @Mapping(target = "documentId", source = "id")
     OcrRequestDto toOcrRequestDto(final Document entity);
 
@@ -39,9 +48,30 @@ public interface DocumentMapper {
                 .build();
     }
 
+    // Claim check: the worker fetches the text from MinIO instead of the message body
+    default GenAIRequestDto toGenAIRequestDtoWithObjectKey(final Document entity, final String ocrTextObjectKey) {
+        return GenAIRequestDto.builder()
+                .documentId(entity.getId().toString())
+                .ocrTextObjectKey(ocrTextObjectKey)
+                .build();
+    }
+
     @Mapping(target = "categoryNames", expression = "java(mapCategoryNames(document.getCategories()))")
+    @Mapping(target = "suggest", expression = "java(mapSuggest(document))")
     SearchDocument toSearchDocument(Document document);
 
+    default Completion mapSuggest(final Document document) {
+        final Stream<String> categoryNames = document.getCategories() == null
+                ? Stream.empty()
+                : document.getCategories().stream().map(Category::getName);
+        final String[] inputs = Stream.concat(
+                        Stream.of(document.getTitle(), document.getOriginalFilename()), categoryNames)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toArray(String[]::new);
+        return new Completion(inputs);
+    }
+
     default List<String> mapCategoryNames(final Collection<Category> categories) {
         if (categories == null || categories.isEmpty()) {
             return Collections.emptyList();
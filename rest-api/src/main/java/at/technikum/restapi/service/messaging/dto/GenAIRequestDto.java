@@ -7,5 +7,6 @@ import lombok.Builder;
 @Builder
 public record GenAIRequestDto(
         @JsonProperty("document_id") String documentId,
-        @JsonProperty("ocr_text") String ocrText) {
+        @JsonProperty("ocr_text") String ocrText, // Small text sent inline
+        @JsonProperty("ocr_text_object_key") String ocrTextObjectKey) { // Large text stored in MinIO
 }
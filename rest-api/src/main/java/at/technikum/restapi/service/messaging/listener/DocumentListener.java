@@ -4,7 +4,7 @@ import at.technikum.restapi.service.messaging.dto.GenAIResponseDto;
 import at.technikum.restapi.service.messaging.dto.OcrResponseDto;
 
 public interface DocumentListener {
-    void handleOcrResponse(final OcrResponseDto response);
+    void handleOcrResponse(final OcrResponseDto response, final String messageId);
 
-    void handleGenAIResponse(final GenAIResponseDto response);
+    void handleGenAIResponse(final GenAIResponseDto response, final String messageId);
 }
@@ -2,10 +2,15 @@ package at.technikum.restapi.service.messaging.listener;
 
 import java.util.UUID;
 
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Component;
 
 import at.technikum.restapi.service.DocumentService;
+import at.technikum.restapi.service.ProcessedMessageService;
 import at.technikum.restapi.service.messaging.dto.GenAIResponseDto;
 import at.technikum.restapi.service.messaging.dto.OcrResponseDto;
 import lombok.RequiredArgsConstructor;
@@ -17,94 +22,118 @@ import lombok.extern.slf4j.Slf4j;
 public class DocumentListenerImpl implements DocumentListener {
 
     private final DocumentService documentService;
+    private final ProcessedMessageService processedMessages;
+    private final RetryTemplate optimisticLockRetryTemplate;
 
     @Override
     @RabbitListener(queues = "#{rabbitConfig.ocrResponseQueue}")
-    public void handleOcrResponse(final OcrResponseDto response) {
-        log.info("Received OCR response for document: {}", response.documentId());
-        log.info("Status: {}, Worker: {}", response.status(), response.worker());
-
-        try {
-            final UUID documentId = UUID.fromString(response.documentId());
-
-            if ("completed".equals(response.status())) {
-                final String ocrText = response.ocrText();
-                final String ocrTextObjectKey = response.ocrTextObjectKey();
-                if (ocrText != null && !ocrText.isEmpty()) {
-                    // Small text sent inline
-                    log.info("OCR completed successfully with inline text ({} chars)", ocrText.length());
-                    log.debug("OCR Text preview: {}",
-                            ocrText.length() > 100 ? ocrText.substring(0, 100) + "..." : ocrText);
+    public void handleOcrResponse(final OcrResponseDto response,
+            @Header(name = AmqpHeaders.MESSAGE_ID, required = false) final String messageId) {
+        if (processedMessages.isProcessed(messageId)) {
+            log.info("Skipping redelivered OCR response {} for document {}", messageId, response.documentId());
+            return;
+        }
+        // A version conflict with a concurrent user edit is retried in place before the
+        // message falls back to the queue-level retry
+        optimisticLockRetryTemplate.execute(context -> {
+            applyOcrResponse(response);
+            return null;
+        });
+        processedMessages.markProcessed(messageId);
+    }
 
-                    documentService.updateOcrResult(documentId, ocrText, null);
+    @Override
+    @RabbitListener(queues = "#{rabbitConfig.genaiResponseQueue}")
+    public void handleGenAIResponse(final GenAIResponseDto response,
+            @Header(name = AmqpHeaders.MESSAGE_ID, required = false) final String messageId) {
+        if (processedMessages.isProcessed(messageId)) {
+            log.info("Skipping redelivered GenAI response {} for document {}", messageId, response.documentId());
+            return;
+        }
+        optimisticLockRetryTemplate.execute(context -> {
+            applyGenAIResponse(response);
+            return null;
+        });
+        processedMessages.markProcessed(messageId);
+    }
 
-                } else if (ocrTextObjectKey != null && !ocrTextObjectKey.isEmpty()) {
-                    // Large text stored in MinIO
-                    log.info("OCR completed successfully, text stored in MinIO: {}", ocrTextObjectKey);
+    private void applyOcrResponse(final OcrResponseDto response) {
+        log.info("Received OCR response for document: {}", response.documentId());
+        log.info("Status: {}, Worker: {}", response.status(), response.worker());
 
-                    documentService.updateOcrResult(documentId, null, ocrTextObjectKey);
+        final UUID documentId = parseDocumentId(response.documentId(), "OCR");
+        if ("completed".equals(response.status())) {
+            final String ocrText = response.ocrText();
+            final String ocrTextObjectKey = response.ocrTextObjectKey();
+            if (ocrText != null && !ocrText.isEmpty()) {
+                // Small text sent inline
+                log.info("OCR completed successfully with inline text ({} chars)", ocrText.length());
+                log.debug("OCR Text preview: {}",
+                        ocrText.length() > 100 ? ocrText.substring(0, 100) + "..." : ocrText);
 
-                } else {
-                    log.warn("OCR completed but no text or object key provided");
-                    documentService.markOcrAsFailed(documentId, "No OCR text or reference provided");
-                }
+                documentService.updateOcrResult(documentId, ocrText, null);
 
-            } else if ("failed".equals(response.status())) {
-                final String error = response.error() != null ? response.error() : "Unknown error";
-                log.error("OCR processing failed for document {}: {}", documentId, error);
+            } else if (ocrTextObjectKey != null && !ocrTextObjectKey.isEmpty()) {
+                // Large text stored in MinIO
+                log.info("OCR completed successfully, text stored in MinIO: {}", ocrTextObjectKey);
 
-                documentService.markOcrAsFailed(documentId, error);
+                documentService.updateOcrResult(documentId, null, ocrTextObjectKey);
 
             } else {
-                log.warn("Unknown OCR response status: {}", response.status());
+                log.warn("OCR completed but no text or object key provided");
+                documentService.markOcrAsFailed(documentId, "No OCR text or reference provided");
             }
 
-        } catch (final IllegalArgumentException e) {
-            log.error("Invalid document ID in OCR response: {}", response.documentId(), e);
-        } catch (final Exception e) {
-            log.error("Error processing OCR response for document {}: {}",
-                    response.documentId(), e.getMessage(), e);
+        } else if ("failed".equals(response.status())) {
+            final String error = response.error() != null ? response.error() : "Unknown error";
+            log.error("OCR processing failed for document {}: {}", documentId, error);
+
+            documentService.markOcrAsFailed(documentId, error);
+
+        } else {
+            log.warn("Unknown OCR response status: {}", response.status());
         }
     }
 
-    @Override
-    @RabbitListener(queues = "#{rabbitConfig.genaiResponseQueue}")
-    public void handleGenAIResponse(final GenAIResponseDto response) {
+    private void applyGenAIResponse(final GenAIResponseDto response) {
         log.info("Received GenAI response for document: {}", response.documentId());
         log.info("Status: {}, Worker: {}", response.status(), response.worker());
 
-        try {
-            final UUID documentId = UUID.fromString(response.documentId());
+        final UUID documentId = parseDocumentId(response.documentId(), "GenAI");
+        if ("completed".equals(response.status())) {
+            final String summaryText = response.summaryText();
 
-            if ("completed".equals(response.status())) {
-                final String summaryText = response.summaryText();
+            if (summaryText != null && !summaryText.isEmpty()) {
+                log.info("GenAI completed successfully with summary ({} chars)", summaryText.length());
+                log.debug("Summary preview: {}",
+                        summaryText.length() > 100 ? summaryText.substring(0, 100) + "..." : summaryText);
 
-                if (summaryText != null && !summaryText.isEmpty()) {
-                    log.info("GenAI completed successfully with summary ({} chars)", summaryText.length());
-                    log.debug("Summary preview: {}",
-                            summaryText.length() > 100 ? summaryText.substring(0, 100) + "..." : summaryText);
+                documentService.updateGenAIResult(documentId, summaryText);
+            } else {
+                log.warn("GenAI completed but no summary text provided");
+                documentService.markGenAIAsFailed(documentId, "No summary text generated");
+            }
 
-                    documentService.updateGenAIResult(documentId, summaryText);
-                } else {
-                    log.warn("GenAI completed but no summary text provided");
-                    documentService.markGenAIAsFailed(documentId, "No summary text generated");
-                }
+        } else if ("failed".equals(response.status())) {
+            final String error = response.error() != null ? response.error() : "Unknown error";
+            log.error("GenAI processing failed for document {}: {}", documentId, error);
 
-            } else if ("failed".equals(response.status())) {
-                final String error = response.error() != null ? response.error() : "Unknown error";
-                log.error("GenAI processing failed for document {}: {}", documentId, error);
+            documentService.markGenAIAsFailed(documentId, error);
 
-                documentService.markGenAIAsFailed(documentId, error);
+        } else {
+            log.warn("Unknown GenAI response status: {}", response.status());
+        }
+    }
 
-            } else {
-                log.warn("Unknown GenAI response status: {}", response.status());
+    private static UUID parseDocumentId(final String documentId, final String worker) {
+        try {
+            if (documentId != null) {
+                return UUID.fromString(documentId);
             }
-
         } catch (final IllegalArgumentException e) {
-            log.error("Invalid document ID in GenAI response: {}", response.documentId(), e);
-        } catch (final Exception e) {
-            log.error("Error processing GenAI response for document {}: {}",
-                    response.documentId(), e.getMessage(), e);
+            log.error("Invalid document ID in {} response: {}", worker, documentId, e);
         }
+        // A malformed ID will never succeed - reject straight to the dead-letter queue
+        throw new AmqpRejectAndDontRequeueException("Invalid document ID in " + worker + " response: " + documentId);
     }
 }
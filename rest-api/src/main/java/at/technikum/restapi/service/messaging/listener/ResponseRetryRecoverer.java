@@ -0,0 +1,103 @@
+package at.technikum.restapi.service.messaging.listener;
+
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+import at.technikum.restapi.config.RabbitConfig;
+import at.technikum.restapi.service.exception.DocumentNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decides what happens to a response message whose listener threw.
+ * <p>
+ * Transient failures (database or Elasticsearch briefly unavailable, ...) are parked in the
+ * {@code .retry.<delay>} wait queue of their attempt's exponentially growing delay and flow
+ * back to the response queue once the queue TTL expires. Poison messages (unparseable
+ * payloads, invalid or unknown document IDs) and messages that exhausted their attempts go
+ * straight to the dead-letter exchange, so they never block the consumer.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseRetryRecoverer implements MessageRecoverer {
+
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+    public static final String ORIGINAL_QUEUE_HEADER = "x-original-queue";
+    public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitConfig rabbitConfig;
+
+    @Override
+    public void recover(final Message message, final Throwable cause) {
+        final MessageProperties properties = message.getMessageProperties();
+        final String queue = properties.getConsumerQueue();
+        final int attempt = getRetryCount(properties) + 1;
+        final String reason = rootMessage(cause);
+
+        if (isPoison(cause)) {
+            log.error("Poison message on queue '{}', dead-lettering without retry: {}", queue, reason);
+            deadLetter(message, queue, reason);
+            return;
+        }
+
+        if (attempt > rabbitConfig.getResponseRetryMaxAttempts()) {
+            log.error("Message on queue '{}' failed {} times, dead-lettering: {}", queue, attempt, reason);
+            deadLetter(message, queue, reason);
+            return;
+        }
+
+        final long delay = backoffDelay(attempt);
+        properties.setHeader(RETRY_COUNT_HEADER, attempt);
+        // The wait queue's TTL applies; a per-message expiration would only interfere with it
+        properties.setExpiration(null);
+
+        rabbitTemplate.send("", RabbitConfig.retryQueueName(queue, delay), message);
+        log.warn("Message on queue '{}' failed (attempt {}/{}), requeued in {} ms: {}",
+                queue, attempt, rabbitConfig.getResponseRetryMaxAttempts(), delay, reason);
+    }
+
+    long backoffDelay(final int attempt) {
+        return RabbitConfig.retryDelayMs(attempt, rabbitConfig.getResponseRetryInitialDelayMs(),
+                rabbitConfig.getResponseRetryMaxDelayMs());
+    }
+
+    private void deadLetter(final Message message, final String queue, final String reason) {
+        final MessageProperties properties = message.getMessageProperties();
+        properties.setExpiration(null);
+        properties.setHeader(ORIGINAL_QUEUE_HEADER, queue);
+        properties.setHeader(EXCEPTION_MESSAGE_HEADER, reason);
+        rabbitTemplate.send(rabbitConfig.getDeadLetterExchange(), queue, message);
+    }
+
+    private static int getRetryCount(final MessageProperties properties) {
+        final Object value = properties.getHeaders().get(RETRY_COUNT_HEADER);
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    private static boolean isPoison(final Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof MessageConversionException
+                    || t instanceof org.springframework.messaging.converter.MessageConversionException
+                    || t instanceof AmqpRejectAndDontRequeueException
+                    || t instanceof DocumentNotFoundException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String rootMessage(final Throwable cause) {
+        Throwable root = cause;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+}
@@ -1,9 +1,13 @@
 package at.technikum.restapi.service.messaging.publisher;
 
+import java.util.List;
+
 import at.technikum.restapi.persistence.model.Document;
 
 public interface DocumentPublisher {
     void publishDocumentForOcr(final Document document);
 
+    void publishDocumentsForOcr(final List<Document> documents);
+
     void publishDocumentForGenAI(final Document document);
 }
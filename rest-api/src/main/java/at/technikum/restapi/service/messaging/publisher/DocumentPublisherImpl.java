@@ -1,5 +1,8 @@
 package at.technikum.restapi.service.messaging.publisher;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import lombok.extern.slf4j.Slf4j;
@@ -8,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import at.technikum.restapi.config.RabbitConfig;
 import at.technikum.restapi.persistence.model.Document;
+import at.technikum.restapi.service.MinioService;
 import at.technikum.restapi.service.mapper.DocumentMapper;
 
 @Slf4j
@@ -18,10 +22,15 @@ public class DocumentPublisherImpl implements DocumentPublisher {
     private final RabbitTemplate rabbitTemplate;
     private final RabbitConfig rabbitConfig;
     private final DocumentMapper mapper;
+    private final MinioService minioService;
 
     @Value("${SUMMARY_MAX_INPUT_LENGTH:300000}")
     private int SUMMARY_MAX_INPUT_LENGTH;
 
+    // Larger OCR text goes to MinIO and only its object key travels through the broker
+    @Value("${GENAI_INLINE_TEXT_MAX_BYTES:262144}")
+    private int genaiInlineTextMaxBytes;
+
     @Override
     public void publishDocumentForOcr(final Document document) {
         log.info("Publishing OCR request for document: {} (ID: {})",
@@ -40,6 +49,26 @@ public class DocumentPublisherImpl implements DocumentPublisher {
         log.info("Published OCR request for document ID: {}", document.getId());
     }
 
+    @Override
+    public void publishDocumentsForOcr(final List<Document> documents) {
+        if (documents == null || documents.isEmpty()) {
+            return;
+        }
+
+        // Publish the whole batch on one dedicated channel instead of one checkout per message
+        rabbitTemplate.invoke(operations -> {
+            for (final Document document : documents) {
+                operations.convertAndSend(
+                        rabbitConfig.getExchange(),
+                        rabbitConfig.getOcrRoutingKeyRequest(),
+                        mapper.toOcrRequestDto(document));
+            }
+            return null;
+        });
+
+        log.info("Published {} OCR requests in one batch", documents.size());
+    }
+
     @Override
     public void publishDocumentForGenAI(final Document document) {
         log.info("Publishing GenAI request for document: {} (ID: {})",
@@ -55,11 +84,28 @@ public class DocumentPublisherImpl implements DocumentPublisher {
         if (ocrText.length() > SUMMARY_MAX_INPUT_LENGTH)
             ocrText = ocrText.substring(0, SUMMARY_MAX_INPUT_LENGTH);
 
+        final int textBytes = ocrText.getBytes(StandardCharsets.UTF_8).length;
+        if (textBytes > genaiInlineTextMaxBytes) {
+            // Deterministic key: a republished request overwrites instead of leaking objects
+            final String objectKey = "genai-request/" + document.getId() + ".txt";
+            minioService.uploadOcrText(objectKey, ocrText);
+
+            rabbitTemplate.convertAndSend(
+                    rabbitConfig.getExchange(),
+                    rabbitConfig.getGenaiRoutingKeyRequest(),
+                    mapper.toGenAIRequestDtoWithObjectKey(document, objectKey));
+
+            log.info("Published GenAI request for document ID: {} with MinIO text reference ({} bytes)",
+                    document.getId(), textBytes);
+            return;
+        }
+
         // Use mapper to convert entity to GenAI request DTO
         final var genaiRequest = mapper.toGenAIRequestDto(document, ocrText);
 
         log.debug("GenAI Request payload: {}", genaiRequest);
 
+        // Bodies above RABBITMQ_COMPRESS_MIN_BYTES are gzipped by the message converter
         rabbitTemplate.convertAndSend(
                 rabbitConfig.getExchange(),
                 rabbitConfig.getGenaiRoutingKeyRequest(),
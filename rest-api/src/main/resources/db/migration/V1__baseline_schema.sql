@@ -0,0 +1,41 @@
+-- Schema as previously created by Hibernate (ddl-auto: update). IF NOT EXISTS keeps this
+-- a no-op on databases that were created that way and are baselined at version 0.
+
+CREATE TABLE IF NOT EXISTS categories (
+    id         UUID                        NOT NULL PRIMARY KEY,
+    name       VARCHAR(50)                 NOT NULL UNIQUE,
+    color      VARCHAR(7)                  NOT NULL,
+    icon       VARCHAR(50)                 NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS documents (
+    id                 UUID                        NOT NULL PRIMARY KEY,
+    title              VARCHAR(255)                NOT NULL,
+    original_filename  VARCHAR(255)                NOT NULL,
+    content_type       VARCHAR(255)                NOT NULL,
+    file_size          BIGINT                      NOT NULL,
+    file_bucket        VARCHAR(255)                NOT NULL,
+    file_object_key    VARCHAR(255)                NOT NULL,
+    processing_status  VARCHAR(255)                NOT NULL
+        CHECK (processing_status IN ('PENDING', 'OCR_PROCESSING', 'OCR_COMPLETED', 'GENAI_PROCESSING',
+                                     'COMPLETED', 'OCR_FAILED', 'GENAI_FAILED')),
+    processing_error   VARCHAR(1000),
+    created_at         TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    ocr_processed_at   TIMESTAMP(6) WITH TIME ZONE,
+    genai_processed_at TIMESTAMP(6) WITH TIME ZONE,
+    last_swept_at      TIMESTAMP(6) WITH TIME ZONE,
+    sweep_attempts     INTEGER                     NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS document_content (
+    document_id  UUID NOT NULL PRIMARY KEY REFERENCES documents (id),
+    ocr_text     TEXT,
+    summary_text TEXT
+);
+
+CREATE TABLE IF NOT EXISTS document_categories (
+    document_id UUID NOT NULL REFERENCES documents (id),
+    category_id UUID NOT NULL REFERENCES categories (id)
+);
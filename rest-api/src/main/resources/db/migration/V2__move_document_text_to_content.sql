@@ -0,0 +1,21 @@
+-- Databases created before document_content existed still carry the text on the documents
+-- row: copy it over and drop the old columns.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'documents' AND column_name = 'ocr_text') THEN
+        INSERT INTO document_content (document_id, ocr_text, summary_text)
+        SELECT id, ocr_text, summary_text
+        FROM documents
+        WHERE ocr_text IS NOT NULL OR summary_text IS NOT NULL
+        ON CONFLICT (document_id) DO NOTHING;
+
+        ALTER TABLE documents DROP COLUMN ocr_text;
+        ALTER TABLE documents DROP COLUMN summary_text;
+    END IF;
+END $$;
+
+-- lz4 (Postgres 14+) compresses and, more importantly, decompresses the TOASTed text much
+-- faster than the default pglz. Applies to newly written values.
+ALTER TABLE document_content ALTER COLUMN ocr_text SET COMPRESSION lz4;
+ALTER TABLE document_content ALTER COLUMN summary_text SET COMPRESSION lz4;
@@ -0,0 +1,20 @@
+-- Stuck-document sweeper and status filters: status equality + created_at range/order
+CREATE INDEX IF NOT EXISTS idx_documents_status_created_at ON documents (processing_status, created_at);
+
+-- Document listing, newest first
+CREATE INDEX IF NOT EXISTS idx_documents_created_at ON documents (created_at DESC);
+
+-- Only a small share of documents is in flight at any time; keeps the sweeper scan tiny
+CREATE INDEX IF NOT EXISTS idx_documents_in_flight ON documents (created_at)
+    WHERE processing_status IN ('PENDING', 'OCR_PROCESSING', 'OCR_COMPLETED', 'GENAI_PROCESSING');
+
+-- Failed documents (error dashboards, retries)
+CREATE INDEX IF NOT EXISTS idx_documents_failed ON documents (created_at)
+    WHERE processing_status IN ('OCR_FAILED', 'GENAI_FAILED');
+
+-- Join table: the primary direction (document -> categories) and category filters/deletion
+CREATE INDEX IF NOT EXISTS idx_document_categories_document_id ON document_categories (document_id);
+CREATE INDEX IF NOT EXISTS idx_document_categories_category_id ON document_categories (category_id);
+
+-- CategoryRepository.findByNameIgnoreCase (Spring Data derives "upper(name) = upper(?)")
+CREATE INDEX IF NOT EXISTS idx_categories_name_upper ON categories (upper(name));
@@ -0,0 +1,16 @@
+-- MinHash signature of a document's OCR text (128 x int32, big-endian)
+CREATE TABLE IF NOT EXISTS document_signatures (
+    document_id UUID         NOT NULL PRIMARY KEY REFERENCES documents (id) ON DELETE CASCADE,
+    minhash     BYTEA        NOT NULL
+);
+
+-- LSH band buckets: documents sharing any bucket are near-duplicate candidates
+CREATE TABLE IF NOT EXISTS document_lsh_buckets (
+    document_id UUID         NOT NULL REFERENCES documents (id) ON DELETE CASCADE,
+    band        SMALLINT     NOT NULL,
+    bucket      BIGINT       NOT NULL,
+    PRIMARY KEY (document_id, band)
+);
+
+-- Candidate lookup probes one bucket per band, independent of the archive size
+CREATE INDEX IF NOT EXISTS idx_document_lsh_buckets_bucket ON document_lsh_buckets (bucket);
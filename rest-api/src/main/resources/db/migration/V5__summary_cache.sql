@@ -0,0 +1,12 @@
+-- GenAI summaries keyed by the SHA-256 of the normalized (truncated) OCR text they were generated from
+CREATE TABLE IF NOT EXISTS summary_cache (
+    fingerprint  VARCHAR(64)              NOT NULL PRIMARY KEY,
+    summary_text TEXT                     NOT NULL,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_used_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Eviction deletes the least recently used entries
+CREATE INDEX IF NOT EXISTS idx_summary_cache_last_used_at ON summary_cache (last_used_at);
+
+ALTER TABLE summary_cache ALTER COLUMN summary_text SET COMPRESSION lz4;
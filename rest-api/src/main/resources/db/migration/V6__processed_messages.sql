@@ -0,0 +1,8 @@
+-- AMQP message IDs of worker responses that were applied; redeliveries are skipped
+CREATE TABLE IF NOT EXISTS processed_messages (
+    message_id   VARCHAR(255)             NOT NULL PRIMARY KEY,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Retention purge
+CREATE INDEX IF NOT EXISTS idx_processed_messages_processed_at ON processed_messages (processed_at);
@@ -0,0 +1,2 @@
+-- Optimistic locking: every document write bumps the version and fails if it changed underneath
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
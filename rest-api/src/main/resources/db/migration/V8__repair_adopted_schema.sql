@@ -0,0 +1,22 @@
+-- Databases adopted at version 0 kept the tables ddl-auto=update had created, so V1's
+-- CREATE TABLE IF NOT EXISTS did not add the sweeper columns to them.
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS last_swept_at TIMESTAMP(6) WITH TIME ZONE;
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS sweep_attempts INTEGER NOT NULL DEFAULT 0;
+
+-- A document is linked to a category at most once: drop duplicate links, then key the join table
+DELETE FROM document_categories a
+    USING document_categories b
+WHERE a.ctid > b.ctid
+  AND a.document_id = b.document_id
+  AND a.category_id = b.category_id;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'document_categories'::regclass AND contype = 'p') THEN
+        ALTER TABLE document_categories ADD PRIMARY KEY (document_id, category_id);
+    END IF;
+END $$;
+
+-- The primary key leads with document_id and serves those lookups now
+DROP INDEX IF EXISTS idx_document_categories_document_id;
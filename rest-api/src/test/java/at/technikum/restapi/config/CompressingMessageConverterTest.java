@@ -0,0 +1,79 @@
+package at.technikum.restapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import at.technikum.restapi.service.messaging.dto.OcrResponseDto;
+
+class CompressingMessageConverterTest {
+
+    private final CompressingMessageConverter converter =
+            new CompressingMessageConverter(new Jackson2JsonMessageConverter(), 1024);
+
+    @Test
+    void testToMessage_smallBodyStaysPlain() {
+        // When
+        Message message = converter.toMessage(response("short text"), new MessageProperties());
+
+        // Then
+        assertEquals("UTF-8", message.getMessageProperties().getContentEncoding());
+        assertEquals(response("short text"), converter.fromMessage(message));
+    }
+
+    @Test
+    void testToMessage_largeBodyIsCompressedAndRoundTrips() {
+        // Given
+        OcrResponseDto original = response("Rechnung Betrag Kunde Lieferung ".repeat(200));
+
+        // When
+        Message message = converter.toMessage(original, new MessageProperties());
+
+        // Then
+        assertTrue(message.getMessageProperties().getContentEncoding().startsWith("gzip"));
+        assertTrue(message.getBody().length < 1024);
+        assertEquals(original, converter.fromMessage(message));
+    }
+
+    @Test
+    void testFromMessage_acceptsCompressedWorkerMessage() throws IOException {
+        // Given - as published by the Python workers
+        byte[] json = "{\"document_id\":\"123\",\"status\":\"completed\",\"ocr_text\":\"Text\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding("gzip:UTF-8");
+        properties.setInferredArgumentType(OcrResponseDto.class);
+
+        // When
+        Object converted = converter.fromMessage(new Message(gzip(json), properties));
+
+        // Then
+        assertEquals("Text", ((OcrResponseDto) converted).ocrText());
+    }
+
+    private static OcrResponseDto response(final String ocrText) {
+        return OcrResponseDto.builder()
+                .documentId("123")
+                .status("completed")
+                .ocrText(ocrText)
+                .build();
+    }
+
+    private static byte[] gzip(final byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
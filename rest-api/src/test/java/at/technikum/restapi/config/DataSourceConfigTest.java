@@ -0,0 +1,38 @@
+package at.technikum.restapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class DataSourceConfigTest {
+
+    @Test
+    void testPoolSize_followsListenerConcurrency() {
+        // Given
+        final MockEnvironment environment = new MockEnvironment()
+                .withProperty(DataSourceConfig.LISTENER_MAX_CONCURRENCY, "12")
+                .withProperty("DB_POOL_HEADROOM", "6");
+        final HikariDataSource dataSource = new HikariDataSource();
+
+        // When
+        DataSourceConfig.listenerSizedConnectionPool(environment)
+                .postProcessBeforeInitialization(dataSource, "dataSource");
+
+        // Then
+        assertEquals(2 * 12 + 6, dataSource.getMaximumPoolSize());
+    }
+
+    @Test
+    void testPoolSize_explicitSizeWins() {
+        // Given
+        final MockEnvironment environment = new MockEnvironment()
+                .withProperty(DataSourceConfig.LISTENER_MAX_CONCURRENCY, "12")
+                .withProperty("DB_POOL_SIZE", "40");
+
+        // When & Then
+        assertEquals(40, DataSourceConfig.poolSize(environment));
+    }
+}
@@ -0,0 +1,82 @@
+package at.technikum.restapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import at.technikum.restapi.service.messaging.dto.GenAIRequestDto;
+import at.technikum.restapi.service.messaging.dto.OcrResponseDto;
+
+class Jackson2CborMessageConverterTest {
+
+    private final Jackson2CborMessageConverter cbor = new Jackson2CborMessageConverter();
+    private final Jackson2JsonMessageConverter json = new Jackson2JsonMessageConverter();
+
+    @Test
+    void testToMessage_roundTripAndSmallerThanJson() {
+        // Given
+        GenAIRequestDto request = GenAIRequestDto.builder()
+                .documentId("3f2c9a4e-5b1d-4c8e-9f7a-2d6b8e1c0a53")
+                .ocrText("Rechnung Nr. 4711\n\"Betrag\": 1.234,56 EUR\tfällig am 01.02.2026")
+                .build();
+
+        // When
+        Message cborMessage = cbor.toMessage(request, new MessageProperties());
+        Message jsonMessage = json.toMessage(request, new MessageProperties());
+
+        // Then
+        assertEquals(Jackson2CborMessageConverter.CONTENT_TYPE, cborMessage.getMessageProperties().getContentType());
+        assertTrue(cborMessage.getBody().length < jsonMessage.getBody().length);
+        assertEquals(request, cbor.fromMessage(cborMessage));
+    }
+
+    @Test
+    void testFromMessage_negotiatedByContentType() {
+        // Given - JSON is the outgoing default, CBOR is still accepted
+        ContentTypeDelegatingMessageConverter negotiating = new ContentTypeDelegatingMessageConverter(json);
+        negotiating.addDelegate(MessageProperties.CONTENT_TYPE_JSON, json);
+        negotiating.addDelegate(Jackson2CborMessageConverter.CONTENT_TYPE, cbor);
+        GenAIRequestDto request = GenAIRequestDto.builder().documentId("123").ocrText("Text").build();
+
+        // When
+        Object fromCbor = negotiating.fromMessage(cbor.toMessage(request, new MessageProperties()));
+        Object fromJson = negotiating.fromMessage(json.toMessage(request, new MessageProperties()));
+
+        // Then
+        assertEquals(request, fromCbor);
+        assertEquals(request, fromJson);
+    }
+
+    @Test
+    void testFromMessage_workerReplyWithoutTypeHeader() throws Exception {
+        // Given - the Python workers send a plain CBOR map and no __TypeId__ header
+        byte[] body = new CBORMapper().writeValueAsBytes(Map.of(
+                "document_id", "123",
+                "ocr_text", "Text",
+                "status", "completed",
+                "worker", "ocr-worker-1"));
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(Jackson2CborMessageConverter.CONTENT_TYPE);
+        properties.setInferredArgumentType(OcrResponseDto.class);
+
+        // When
+        Object converted = cbor.fromMessage(new Message(body, properties));
+
+        // Then
+        assertEquals(OcrResponseDto.builder()
+                .documentId("123")
+                .ocrText("Text")
+                .status("completed")
+                .worker("ocr-worker-1")
+                .build(), converted);
+    }
+}
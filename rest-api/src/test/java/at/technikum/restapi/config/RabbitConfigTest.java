@@ -0,0 +1,39 @@
+package at.technikum.restapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Queue;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RabbitConfigTest {
+
+    private static final String QUEUE = "documents.ocr.processing.response";
+
+    @Test
+    void testRetryTiers_eachHaveOwnQueueWithQueueTtl() {
+        // Given
+        final RabbitConfig config = new RabbitConfig();
+        ReflectionTestUtils.setField(config, "ocrResponseQueue", QUEUE);
+        ReflectionTestUtils.setField(config, "genaiResponseQueue", "documents.genai.processing.response");
+        ReflectionTestUtils.setField(config, "responseRetryMaxAttempts", 5);
+        ReflectionTestUtils.setField(config, "responseRetryInitialDelayMs", 1000L);
+        ReflectionTestUtils.setField(config, "responseRetryMaxDelayMs", 4000L);
+
+        // When
+        final Map<String, Queue> queues = config.responseRetryQueues().getDeclarablesByType(Queue.class).stream()
+                .collect(Collectors.toMap(Queue::getName, queue -> queue));
+
+        // Then - capped attempts share the longest tier
+        assertEquals(List.of(1000L, 2000L, 4000L), config.getResponseRetryDelays());
+        assertEquals(6, queues.size());
+        final Queue longest = queues.get(QUEUE + ".retry.4000");
+        assertEquals(4000, longest.getArguments().get("x-message-ttl"));
+        assertEquals("", longest.getArguments().get("x-dead-letter-exchange"));
+        assertEquals(QUEUE, longest.getArguments().get("x-dead-letter-routing-key"));
+    }
+}
@@ -30,6 +30,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -37,6 +38,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import at.technikum.restapi.persistence.model.Document;
 import at.technikum.restapi.persistence.repository.DocumentRepository;
 import at.technikum.restapi.service.DocumentSearchService;
+import at.technikum.restapi.service.EmbeddingIndexer;
 import at.technikum.restapi.service.MinioService;
 import at.technikum.restapi.service.dto.DocumentSummaryDto;
 import at.technikum.restapi.service.messaging.publisher.DocumentPublisher;
@@ -57,6 +59,9 @@ class DocumentControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @MockitoBean
     private DocumentSearchService documentSearchService;
 
@@ -66,6 +71,10 @@ class DocumentControllerTest {
     @MockitoBean
     private DocumentPublisher documentPublisher;
 
+    // Its chunk repository is an Elasticsearch repository, excluded above
+    @MockitoBean
+    private EmbeddingIndexer embeddingIndexer;
+
     private Document savedDoc;
 
     @BeforeEach
@@ -160,6 +169,48 @@ class DocumentControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void testBulkUpload_allFilesStored() throws Exception {
+        final MockMultipartFile first = new MockMultipartFile(
+                "files", "invoice.pdf", "application/pdf", "First".getBytes());
+        final MockMultipartFile second = new MockMultipartFile(
+                "files", "scan.png", "image/png", "Second".getBytes());
+
+        when(minioService.uploadFile(any(MultipartFile.class))).thenReturn("bucket/object-key");
+
+        mockMvc.perform(multipart("/documents/bulk")
+                .file(first)
+                .file(second))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.items[0].document.title").value("invoice"))
+                .andExpect(jsonPath("$.items[1].document.title").value("scan"));
+
+        verify(documentSearchService).indexDocumentsMetadata(any());
+        verify(documentPublisher).publishDocumentsForOcr(any());
+    }
+
+    @Test
+    void testBulkUpload_reportsRejectedFiles() throws Exception {
+        final MockMultipartFile valid = new MockMultipartFile(
+                "files", "invoice.pdf", "application/pdf", "Valid".getBytes());
+        final MockMultipartFile invalid = new MockMultipartFile(
+                "files", "virus.exe", "application/x-msdownload", "Invalid".getBytes());
+
+        when(minioService.uploadFile(any(MultipartFile.class))).thenReturn("bucket/object-key");
+
+        mockMvc.perform(multipart("/documents/bulk")
+                .file(valid)
+                .file(invalid))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[0].success").value(true))
+                .andExpect(jsonPath("$.items[1].success").value(false))
+                .andExpect(jsonPath("$.items[1].filename").value("virus.exe"));
+    }
+
     // ========== GET ALL TESTS ==========
 
     @Test
@@ -211,9 +262,12 @@ class DocumentControllerTest {
 
     @Test
     void testGetOcrStatus_completed() throws Exception {
-        savedDoc.setProcessingStatus(Document.ProcessingStatus.COMPLETED);
-        savedDoc.setOcrText("OCR completed text");
-        repository.save(savedDoc);
+        // Content is written on the managed entity, as the service does
+        transactionTemplate.executeWithoutResult(status -> {
+            final Document document = repository.findById(savedDoc.getId()).orElseThrow();
+            document.setProcessingStatus(Document.ProcessingStatus.COMPLETED);
+            document.setOcrText("OCR completed text");
+        });
 
         mockMvc.perform(get("/documents/" + savedDoc.getId() + "/status"))
                 .andExpect(status().isOk())
@@ -226,6 +280,31 @@ class DocumentControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void testGetStatuses_batch() throws Exception {
+        final Document failed = repository.save(Document.builder()
+                .title("Failed Document")
+                .originalFilename("failed.pdf")
+                .contentType("application/pdf")
+                .fileSize(1L)
+                .fileBucket("test-bucket")
+                .fileObjectKey("failed-object-key")
+                .createdAt(Instant.now())
+                .processingStatus(Document.ProcessingStatus.OCR_FAILED)
+                .processingError("Tesseract crashed")
+                .build());
+
+        mockMvc.perform(get("/documents/status")
+                .param("ids", savedDoc.getId().toString(), failed.getId().toString(),
+                        UUID.randomUUID().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[?(@.id == '" + failed.getId() + "')].processingError")
+                        .value("Tesseract crashed"))
+                .andExpect(jsonPath("$[?(@.id == '" + savedDoc.getId() + "')].processingStatus")
+                        .value("PENDING"));
+    }
+
     // ========== DOWNLOAD TESTS ==========
 
     @Test
@@ -0,0 +1,117 @@
+package at.technikum.restapi.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import at.technikum.restapi.persistence.model.Document;
+import at.technikum.restapi.persistence.model.DocumentContent;
+import at.technikum.restapi.persistence.repository.DocumentRepository;
+import at.technikum.restapi.service.dto.DocumentSummaryDto;
+import at.technikum.restapi.service.mapper.DocumentMapper;
+
+/**
+ * Guards the build-time bytecode enhancement: without it the LAZY error column and the
+ * document_content row are loaded with every document.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class DocumentLazyLoadingTest {
+
+    @Autowired
+    private DocumentRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final DocumentMapper mapper = Mappers.getMapper(DocumentMapper.class);
+
+    private UUID documentId;
+
+    @BeforeEach
+    void setUp() {
+        final Document document = Document.builder()
+                .title("Large Document")
+                .originalFilename("large.pdf")
+                .contentType("application/pdf")
+                .fileSize(12345L)
+                .fileBucket("test-bucket")
+                .fileObjectKey("test-key")
+                .createdAt(Instant.now())
+                .processingStatus(Document.ProcessingStatus.COMPLETED)
+                .processingError("None")
+                .build();
+        document.setOcrText("x".repeat(100_000));
+        document.setSummaryText("Summary");
+
+        documentId = entityManager.persistAndGetId(document, UUID.class);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testFindAll_doesNotLoadContent() {
+        // When
+        final List<Document> documents = repository.findAll();
+
+        // Then
+        assertThat(documents).hasSize(1);
+        final Document document = documents.getFirst();
+        assertThat(Hibernate.isPropertyInitialized(document, "content")).isFalse();
+        assertThat(Hibernate.isPropertyInitialized(document, "processingError")).isFalse();
+    }
+
+    @Test
+    void testSummaryMapping_doesNotLoadContent() {
+        // Given
+        final Document document = repository.findWithCategoriesById(documentId).orElseThrow();
+
+        // When
+        final DocumentSummaryDto summary = mapper.toSummaryDto(document);
+
+        // Then
+        assertThat(summary.title()).isEqualTo("Large Document");
+        assertThat(Hibernate.isPropertyInitialized(document, "content")).isFalse();
+    }
+
+    @Test
+    void testContent_loadedOnAccess() {
+        // Given
+        final Document document = repository.findById(documentId).orElseThrow();
+
+        // When
+        final String summaryText = document.getSummaryText();
+
+        // Then
+        assertThat(summaryText).isEqualTo("Summary");
+        assertThat(document.getOcrText()).hasSize(100_000);
+        assertThat(Hibernate.isPropertyInitialized(document, "content")).isTrue();
+        assertThat(Hibernate.isPropertyInitialized(document, "processingError")).isFalse();
+    }
+
+    @Test
+    void testStatusUpdate_leavesContentUntouched() {
+        // Given
+        final Document document = repository.findById(documentId).orElseThrow();
+
+        // When
+        document.setProcessingStatus(Document.ProcessingStatus.GENAI_FAILED);
+        repository.saveAndFlush(document);
+
+        // Then
+        assertThat(Hibernate.isPropertyInitialized(document, "content")).isFalse();
+        entityManager.clear();
+        assertThat(entityManager.find(DocumentContent.class, documentId).getOcrText()).hasSize(100_000);
+    }
+}
@@ -0,0 +1,146 @@
+package at.technikum.restapi.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import at.technikum.restapi.persistence.model.Category;
+import at.technikum.restapi.persistence.model.Document;
+import at.technikum.restapi.persistence.model.Document.ProcessingStatus;
+import at.technikum.restapi.persistence.repository.DocumentRepository;
+
+/**
+ * Concurrent writers must conflict instead of silently overwriting each other.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class DocumentVersioningTest {
+
+    @Autowired
+    private DocumentRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UUID documentId;
+
+    @BeforeEach
+    void setUp() {
+        final Document document = Document.builder()
+                .title("Versioned Document")
+                .originalFilename("versioned.pdf")
+                .contentType("application/pdf")
+                .fileSize(1024L)
+                .fileBucket("test-bucket")
+                .fileObjectKey("test-key")
+                .createdAt(Instant.now())
+                .processingStatus(ProcessingStatus.OCR_PROCESSING)
+                .build();
+
+        documentId = entityManager.persistAndGetId(document, UUID.class);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testStaleWrite_isRejected() {
+        // Given - two writers read the same version
+        final Document stale = repository.findById(documentId).orElseThrow();
+        entityManager.detach(stale);
+
+        final Document current = repository.findById(documentId).orElseThrow();
+        current.setTitle("Renamed by user");
+        repository.saveAndFlush(current);
+        entityManager.clear();
+
+        // When & Then
+        stale.setProcessingStatus(ProcessingStatus.OCR_COMPLETED);
+        assertThatThrownBy(() -> repository.saveAndFlush(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void testTransitionStatus_appliesFromExpectedStatus() {
+        // Given - swept once in the OCR stage
+        repository.markSwept(documentId, ProcessingStatus.OCR_PROCESSING, 0, Instant.now());
+
+        // When
+        final int updated = repository.transitionStatus(documentId,
+                List.of(ProcessingStatus.PENDING, ProcessingStatus.OCR_PROCESSING),
+                ProcessingStatus.OCR_FAILED, "Timeout");
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        final Document document = repository.findById(documentId).orElseThrow();
+        assertThat(document.getProcessingStatus()).isEqualTo(ProcessingStatus.OCR_FAILED);
+        assertThat(document.getProcessingError()).isEqualTo("Timeout");
+        assertThat(document.getSweepAttempts()).isZero();
+        assertThat(document.getLastSweptAt()).isNull();
+        assertThat(document.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void testTransitionStatus_skipsOtherStatus() {
+        // When - the OCR result was committed first
+        final int updated = repository.transitionStatus(documentId,
+                List.of(ProcessingStatus.COMPLETED), ProcessingStatus.GENAI_FAILED, "Timeout");
+
+        // Then
+        assertThat(updated).isZero();
+        final Document document = repository.findById(documentId).orElseThrow();
+        assertThat(document.getProcessingStatus()).isEqualTo(ProcessingStatus.OCR_PROCESSING);
+        assertThat(document.getVersion()).isZero();
+    }
+
+    @Test
+    void testMarkSwept_appliesOnlyToTheStateThatWasRead() {
+        // When - the first claim wins, a second one based on the same read does not
+        final int first = repository.markSwept(documentId, ProcessingStatus.OCR_PROCESSING, 0, Instant.now());
+        final int second = repository.markSwept(documentId, ProcessingStatus.OCR_PROCESSING, 0, Instant.now());
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        final Document document = repository.findById(documentId).orElseThrow();
+        assertThat(document.getSweepAttempts()).isEqualTo(1);
+        assertThat(document.getLastSweptAt()).isNotNull();
+        assertThat(document.getVersion()).isZero();
+    }
+
+    @Test
+    void testCategoryRemoval_bumpsVersionOfAffectedDocuments() {
+        // Given
+        final Category category = entityManager.persist(Category.builder()
+                .name("Invoices")
+                .color("#FF5733")
+                .icon("receipt")
+                .build());
+        final Document document = repository.findById(documentId).orElseThrow();
+        document.getCategories().add(category);
+        repository.saveAndFlush(document);
+        entityManager.clear();
+        final long versionBefore = repository.findById(documentId).orElseThrow().getVersion();
+
+        // When
+        final List<UUID> affected = repository.findIdsByCategoryId(category.getId());
+        repository.incrementVersionOfCategory(category.getId());
+        repository.removeCategoryFromAll(category.getId());
+
+        // Then
+        assertThat(affected).containsExactly(documentId);
+        final Document updated = repository.findWithCategoriesById(documentId).orElseThrow();
+        assertThat(updated.getCategories()).isEmpty();
+        assertThat(updated.getVersion()).isEqualTo(versionBefore + 1);
+    }
+}
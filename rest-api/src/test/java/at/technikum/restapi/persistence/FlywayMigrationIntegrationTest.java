@@ -0,0 +1,111 @@
+package at.technikum.restapi.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs the real migrations against Postgres and lets Hibernate validate the entities against
+ * the result, for a fresh database and for one adopted from the former ddl-auto=update schema.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+class FlywayMigrationIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testFreshDatabase_migratesAndValidates() {
+        // Then - the context only starts if Hibernate validated the migrated schema
+        assertThat(hasPrimaryKey("public")).isTrue();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Flyway must see the legacy tables
+    void testAdoptedDatabase_gainsMissingColumnsAndJoinTableKey() {
+        // Given - tables as ddl-auto=update created them before the sweeper columns existed
+        jdbcTemplate.execute("CREATE SCHEMA legacy");
+        jdbcTemplate.execute("""
+                CREATE TABLE legacy.categories (
+                    id UUID PRIMARY KEY, name VARCHAR(50) NOT NULL UNIQUE, color VARCHAR(7) NOT NULL,
+                    icon VARCHAR(50) NOT NULL, created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+                    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL)""");
+        jdbcTemplate.execute("""
+                CREATE TABLE legacy.documents (
+                    id UUID PRIMARY KEY, title VARCHAR(255) NOT NULL, original_filename VARCHAR(255) NOT NULL,
+                    content_type VARCHAR(255) NOT NULL, file_size BIGINT NOT NULL,
+                    file_bucket VARCHAR(255) NOT NULL, file_object_key VARCHAR(255) NOT NULL,
+                    processing_status VARCHAR(255) NOT NULL, processing_error VARCHAR(1000),
+                    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL, ocr_processed_at TIMESTAMP(6) WITH TIME ZONE,
+                    genai_processed_at TIMESTAMP(6) WITH TIME ZONE, ocr_text TEXT, summary_text TEXT)""");
+        jdbcTemplate.execute("""
+                CREATE TABLE legacy.document_categories (
+                    document_id UUID NOT NULL REFERENCES legacy.documents (id),
+                    category_id UUID NOT NULL REFERENCES legacy.categories (id))""");
+        jdbcTemplate.execute("""
+                INSERT INTO legacy.categories VALUES
+                    ('00000000-0000-0000-0000-000000000001', 'Invoices', '#ff0000', 'receipt', now(), now())""");
+        jdbcTemplate.execute("""
+                INSERT INTO legacy.documents (id, title, original_filename, content_type, file_size, file_bucket,
+                    file_object_key, processing_status, created_at, ocr_text)
+                VALUES ('00000000-0000-0000-0000-000000000002', 'Invoice', 'invoice.pdf', 'application/pdf', 1,
+                    'paperless-documents', 'invoice.pdf', 'COMPLETED', now(), 'OCR text')""");
+        jdbcTemplate.execute("""
+                INSERT INTO legacy.document_categories VALUES
+                    ('00000000-0000-0000-0000-000000000002', '00000000-0000-0000-0000-000000000001'),
+                    ('00000000-0000-0000-0000-000000000002', '00000000-0000-0000-0000-000000000001')""");
+
+        // When - adopted the same way as in application.yml
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas("legacy")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+
+        // Then
+        assertThat(jdbcTemplate.queryForList("""
+                SELECT column_name FROM information_schema.columns
+                WHERE table_schema = 'legacy' AND table_name = 'documents'""", String.class))
+                .contains("last_swept_at", "sweep_attempts", "version")
+                .doesNotContain("ocr_text", "summary_text");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM legacy.document_categories", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT ocr_text FROM legacy.document_content", String.class)).isEqualTo("OCR text");
+        assertThat(hasPrimaryKey("legacy")).isTrue();
+    }
+
+    private boolean hasPrimaryKey(final String schema) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM information_schema.table_constraints
+                               WHERE table_schema = ? AND table_name = 'document_categories'
+                                 AND constraint_type = 'PRIMARY KEY')""", Boolean.class, schema));
+    }
+}
@@ -32,7 +32,9 @@ import org.springframework.data.elasticsearch.core.query.Query;
 
 import at.technikum.restapi.persistence.model.Document;
 import at.technikum.restapi.persistence.model.SearchDocument;
+import at.technikum.restapi.persistence.repository.ChunkDocumentRepository;
 import at.technikum.restapi.persistence.repository.SearchDocumentRepository;
+import at.technikum.restapi.service.dto.HybridSearchHits;
 import at.technikum.restapi.service.mapper.DocumentMapper;
 
 @SuppressWarnings("unchecked")
@@ -48,6 +50,12 @@ class DocumentSearchServiceTest {
     @Mock
     private DocumentMapper mapper;
 
+    @Mock
+    private ChunkDocumentRepository chunkDocumentRepository;
+
+    @Mock
+    private EmbeddingService embeddingService;
+
     @InjectMocks
     private DocumentSearchServiceImpl searchService;
 
@@ -66,9 +74,9 @@ class DocumentSearchServiceTest {
                 .fileObjectKey("test-key")
                 .createdAt(Instant.now())
                 .processingStatus(Document.ProcessingStatus.COMPLETED)
-                .ocrText("This is OCR text content")
-                .summaryText("This is a summary")
                 .build();
+        testDocument.setOcrText("This is OCR text content");
+        testDocument.setSummaryText("This is a summary");
 
         testSearchDocument = SearchDocument.builder()
                 .id(testDocument.getId())
@@ -188,6 +196,7 @@ class DocumentSearchServiceTest {
 
         // Then
         verify(searchDocumentRepository).deleteById(documentId);
+        verify(chunkDocumentRepository).deleteByDocumentIdIn(List.of(documentId));
     }
 
     @Test
@@ -283,4 +292,40 @@ class DocumentSearchServiceTest {
         assertTrue(results.isEmpty());
         verify(elasticsearchOperations, never()).search(any(Query.class), eq(SearchDocument.class));
     }
+
+    @Test
+    void testFuseRankings_prefersDocumentsRankedByBothQueries() {
+        // Given
+        UUID lexicalOnly = UUID.randomUUID();
+        UUID both = UUID.randomUUID();
+        UUID semanticOnly = UUID.randomUUID();
+
+        // When
+        List<UUID> fused = DocumentSearchServiceImpl.fuseRankings(
+                List.of(List.of(lexicalOnly, both), List.of(semanticOnly, both)), 10);
+
+        // Then
+        assertEquals(3, fused.size());
+        assertEquals(both, fused.getFirst());
+    }
+
+    @Test
+    void testFuseRankings_limitsToSize() {
+        // When
+        List<UUID> fused = DocumentSearchServiceImpl.fuseRankings(
+                List.of(List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()), List.of()), 2);
+
+        // Then
+        assertEquals(2, fused.size());
+    }
+
+    @Test
+    void testHybridSearch_withBlankQuery_returnsEmpty() {
+        // When
+        HybridSearchHits result = searchService.hybridSearch("  ", 10);
+
+        // Then
+        assertTrue(result.ids().isEmpty());
+        verify(elasticsearchOperations, never()).search(any(Query.class), eq(SearchDocument.class));
+    }
 }
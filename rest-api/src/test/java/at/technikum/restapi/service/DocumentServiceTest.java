@@ -2,29 +2,70 @@ package at.technikum.restapi.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 
 import at.technikum.restapi.persistence.model.Document;
 import at.technikum.restapi.persistence.repository.DocumentRepository;
+import at.technikum.restapi.service.dto.BulkUploadResultDto;
 import at.technikum.restapi.service.dto.DocumentDetailDto;
 import at.technikum.restapi.service.dto.DocumentSummaryDto;
+import at.technikum.restapi.service.dto.SimilarityMatch;
+import at.technikum.restapi.service.event.CategoryRemovedEvent;
+import at.technikum.restapi.service.event.DocumentOcrCompletedEvent;
+import at.technikum.restapi.service.event.DocumentReadyForSummaryEvent;
+import at.technikum.restapi.service.event.DocumentStatusChangedEvent;
+import at.technikum.restapi.service.event.DocumentSummarizedEvent;
+import at.technikum.restapi.service.exception.DocumentConflictException;
 import at.technikum.restapi.service.exception.DocumentNotFoundException;
+import at.technikum.restapi.service.exception.DocumentUploadException;
+import at.technikum.restapi.service.exception.InvalidDocumentException;
+import at.technikum.restapi.service.mapper.CategoryMapper;
 import at.technikum.restapi.service.mapper.DocumentMapper;
 import at.technikum.restapi.service.messaging.publisher.DocumentPublisher;
 
@@ -37,6 +78,12 @@ class DocumentServiceTest {
     @Mock
     private DocumentMapper mapper;
 
+    @Mock
+    private CategoryMapper categoryMapper;
+
+    @Mock
+    private CategoryService categoryService;
+
     @Mock
     private DocumentPublisher publisher;
 
@@ -46,6 +93,29 @@ class DocumentServiceTest {
     @Mock
     private DocumentSearchService documentSearchService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmbeddingIndexer embeddingIndexer;
+
+    @Mock
+    private NearDuplicateService nearDuplicateService;
+
+    @Mock
+    private SummaryCacheService summaryCacheService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private RetryTemplate optimisticLockRetryTemplate = RetryTemplate.builder()
+            .maxAttempts(3)
+            .noBackoff()
+            .retryOn(OptimisticLockingFailureException.class)
+            .traversingCauses()
+            .build();
+
     @InjectMocks
     private DocumentServiceImpl documentService;
 
@@ -144,7 +214,8 @@ class DocumentServiceTest {
                 .createdAt(testDocument.getCreatedAt())
                 .build();
 
-        when(repository.findById(testDocument.getId())).thenReturn(Optional.of(testDocument));
+        runTransactionsInline();
+        when(repository.findWithCategoriesById(testDocument.getId())).thenReturn(Optional.of(testDocument));
         when(repository.save(any(Document.class))).thenReturn(testDocument);
         when(mapper.toSummaryDto(any(Document.class))).thenReturn(updateDto);
 
@@ -155,7 +226,54 @@ class DocumentServiceTest {
         assertNotNull(result);
         assertEquals("Updated Title", result.title());
         verify(repository).save(any(Document.class));
-        verify(documentSearchService).updateDocumentStatus(any(Document.class));
+        // Indexed from a reload in its own transaction, after the update committed
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(documentSearchService).updateDocumentStatus(testDocument);
+    }
+
+    @Test
+    void testUpdate_versionConflictIsRetried() {
+        // Given - a worker result bumped the version between read and write
+        final DocumentSummaryDto updateDto = DocumentSummaryDto.builder()
+                .id(testDocument.getId())
+                .title("Updated Title")
+                .build();
+
+        runTransactionsInline();
+        when(repository.findWithCategoriesById(testDocument.getId())).thenReturn(Optional.of(testDocument));
+        when(repository.save(any(Document.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Document.class, testDocument.getId()))
+                .thenReturn(testDocument);
+        when(mapper.toSummaryDto(any(Document.class))).thenReturn(updateDto);
+
+        // When
+        final DocumentSummaryDto result = documentService.update(testDocument.getId(), updateDto);
+
+        // Then
+        assertEquals("Updated Title", result.title());
+        // Two update attempts, then the reload for the index write after commit
+        verify(repository, times(3)).findWithCategoriesById(testDocument.getId());
+        verify(documentSearchService).updateDocumentStatus(testDocument);
+    }
+
+    @Test
+    void testUpdate_persistentConflictIsReported() {
+        // Given
+        final DocumentSummaryDto updateDto = DocumentSummaryDto.builder()
+                .id(testDocument.getId())
+                .title("Updated Title")
+                .build();
+
+        runTransactionsInline();
+        when(repository.findWithCategoriesById(testDocument.getId())).thenReturn(Optional.of(testDocument));
+        when(repository.save(any(Document.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Document.class, testDocument.getId()));
+
+        // When & Then
+        assertThrows(DocumentConflictException.class,
+                () -> documentService.update(testDocument.getId(), updateDto));
+        verify(repository, times(3)).save(any(Document.class));
+        verify(documentSearchService, never()).updateDocumentStatus(any(Document.class));
     }
 
     @Test
@@ -178,6 +296,9 @@ class DocumentServiceTest {
         final UUID documentId = testDocument.getId();
         final String ocrText = "OCR text content";
         final String ocrTextKey = "ocr-text-key";
+        // The OCR stage needed two sweeps
+        testDocument.setSweepAttempts(2);
+        testDocument.setLastSweptAt(Instant.now());
 
         when(repository.findWithCategoriesById(documentId)).thenReturn(Optional.of(testDocument));
         when(repository.save(any(Document.class))).thenReturn(testDocument);
@@ -188,8 +309,92 @@ class DocumentServiceTest {
         // Then
         verify(repository).save(argThat(doc -> doc.getProcessingStatus() == Document.ProcessingStatus.OCR_COMPLETED &&
                 doc.getOcrText().equals(ocrText)));
-        verify(documentSearchService).updateDocumentAfterOcr(any(Document.class));
-        verify(publisher).publishDocumentForGenAI(any(Document.class));
+        // The GenAI stage starts with a fresh sweeper budget
+        assertEquals(0, testDocument.getSweepAttempts());
+        assertNull(testDocument.getLastSweptAt());
+        // Elasticsearch and GenAI are only reached after commit, through the fan-out
+        verify(eventPublisher).publishEvent(new DocumentReadyForSummaryEvent(testDocument));
+        verify(documentSearchService, never()).updateDocumentAfterOcr(any(Document.class));
+        verify(publisher, never()).publishDocumentForGenAI(any(Document.class));
+        verify(eventPublisher).publishEvent(new DocumentStatusChangedEvent(
+                documentId, Document.ProcessingStatus.OCR_COMPLETED, null));
+        verify(eventPublisher).publishEvent(new DocumentOcrCompletedEvent(documentId));
+    }
+
+    @Test
+    void testUpdateOcrResult_nearDuplicateReusesSummary() {
+        // Given
+        ReflectionTestUtils.setField(documentService, "duplicateSkipGenAI", true);
+        ReflectionTestUtils.setField(documentService, "duplicateSkipGenAIThreshold", 0.95);
+        final UUID documentId = testDocument.getId();
+        final Document original = Document.builder()
+                .id(UUID.randomUUID())
+                .title("Original Scan")
+                .processingStatus(Document.ProcessingStatus.COMPLETED)
+                .build();
+        original.setSummaryText("Existing summary");
+
+        when(repository.findWithCategoriesById(documentId)).thenReturn(Optional.of(testDocument));
+        when(repository.save(any(Document.class))).thenReturn(testDocument);
+        when(nearDuplicateService.findSimilar(eq(documentId), anyDouble(), anyInt()))
+                .thenReturn(List.of(new SimilarityMatch(original.getId(), 0.98)));
+        when(repository.findAllById(List.of(original.getId()))).thenReturn(List.of(original));
+
+        // When
+        documentService.updateOcrResult(documentId, "OCR text content", null);
+
+        // Then
+        verify(nearDuplicateService).updateSignature(documentId, "OCR text content");
+        assertEquals(Document.ProcessingStatus.COMPLETED, testDocument.getProcessingStatus());
+        assertEquals("Existing summary", testDocument.getSummaryText());
+        verify(eventPublisher).publishEvent(new DocumentSummarizedEvent(testDocument));
+        verify(eventPublisher, never()).publishEvent(any(DocumentReadyForSummaryEvent.class));
+    }
+
+    @Test
+    void testUpdateOcrResult_nearDuplicateStillSummarizedByDefault() {
+        // Given - summary reuse is opt-in
+        final UUID documentId = testDocument.getId();
+        when(repository.findWithCategoriesById(documentId)).thenReturn(Optional.of(testDocument));
+        when(repository.save(any(Document.class))).thenReturn(testDocument);
+
+        // When
+        documentService.updateOcrResult(documentId, "OCR text content", null);
+
+        // Then
+        verify(nearDuplicateService).updateSignature(documentId, "OCR text content");
+        verify(nearDuplicateService, never()).findSimilar(any(UUID.class), anyDouble(), anyInt());
+        verify(eventPublisher).publishEvent(new DocumentReadyForSummaryEvent(testDocument));
+    }
+
+    @Test
+    void testUpdateOcrResult_duplicateIsSkipped() {
+        // Given - the document already went through OCR (redelivered or republished response)
+        testDocument.setProcessingStatus(Document.ProcessingStatus.COMPLETED);
+        when(repository.findWithCategoriesById(testDocument.getId())).thenReturn(Optional.of(testDocument));
+
+        // When
+        documentService.updateOcrResult(testDocument.getId(), null, "ocr-text-key");
+
+        // Then
+        verify(minioService, never()).downloadOcrText(anyString());
+        verify(repository, never()).save(any(Document.class));
+        verify(eventPublisher, never()).publishEvent(any(DocumentReadyForSummaryEvent.class));
+    }
+
+    @Test
+    void testMarkGenAIAsFailed_lateFailureDoesNotOverrideSuccess() {
+        // Given
+        testDocument.setProcessingStatus(Document.ProcessingStatus.COMPLETED);
+        when(repository.findWithCategoriesById(testDocument.getId())).thenReturn(Optional.of(testDocument));
+
+        // When
+        documentService.markGenAIAsFailed(testDocument.getId(), "Timeout");
+
+        // Then
+        assertEquals(Document.ProcessingStatus.COMPLETED, testDocument.getProcessingStatus());
+        verify(repository, never()).save(any(Document.class));
+        verify(documentSearchService, never()).updateDocumentStatus(any(Document.class));
     }
 
     @Test
@@ -198,16 +403,31 @@ class DocumentServiceTest {
         final UUID documentId = testDocument.getId();
         final String error = "OCR processing failed";
 
+        when(repository.transitionStatus(eq(documentId), any(), eq(Document.ProcessingStatus.OCR_FAILED), eq(error)))
+                .thenReturn(1);
         when(repository.findWithCategoriesById(documentId)).thenReturn(Optional.of(testDocument));
-        when(repository.save(any(Document.class))).thenReturn(testDocument);
 
         // When
         documentService.markOcrAsFailed(documentId, error);
 
         // Then
-        verify(repository).save(argThat(doc -> doc.getProcessingStatus() == Document.ProcessingStatus.OCR_FAILED &&
-                doc.getProcessingError().equals(error)));
-        verify(documentSearchService).updateDocumentStatus(any(Document.class));
+        verify(repository).transitionStatus(eq(documentId),
+                argThat(expected -> expected.contains(Document.ProcessingStatus.OCR_PROCESSING)
+                        && !expected.contains(Document.ProcessingStatus.OCR_COMPLETED)),
+                eq(Document.ProcessingStatus.OCR_FAILED), eq(error));
+        verify(repository, never()).save(any(Document.class));
+        verify(documentSearchService).updateDocumentStatus(testDocument);
+    }
+
+    @Test
+    void testMarkOcrAsFailed_unknownDocument() {
+        // Given
+        final UUID documentId = UUID.randomUUID();
+        when(repository.findWithCategoriesById(documentId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(DocumentNotFoundException.class,
+                () -> documentService.markOcrAsFailed(documentId, "OCR processing failed"));
     }
 
     @Test
@@ -217,6 +437,7 @@ class DocumentServiceTest {
         final String summaryText = "This is a summary";
 
         testDocument.setProcessingStatus(Document.ProcessingStatus.GENAI_PROCESSING);
+        testDocument.setSweepAttempts(1);
         when(repository.findWithCategoriesById(documentId)).thenReturn(Optional.of(testDocument));
         when(repository.save(any(Document.class))).thenReturn(testDocument);
 
@@ -226,6 +447,190 @@ class DocumentServiceTest {
         // Then
         verify(repository).save(argThat(doc -> doc.getProcessingStatus() == Document.ProcessingStatus.COMPLETED &&
                 doc.getSummaryText().equals(summaryText)));
-        verify(documentSearchService).updateDocumentAfterGenAI(any(Document.class));
+        assertEquals(0, testDocument.getSweepAttempts());
+        verify(eventPublisher).publishEvent(new DocumentSummarizedEvent(testDocument));
+        verify(summaryCacheService).store(testDocument.getOcrText(), summaryText);
+    }
+
+    @Test
+    void testUpdateOcrResult_cachedSummarySkipsGenAI() {
+        // Given
+        final UUID documentId = testDocument.getId();
+        when(repository.findWithCategoriesById(documentId)).thenReturn(Optional.of(testDocument));
+        when(repository.save(any(Document.class))).thenReturn(testDocument);
+        when(summaryCacheService.lookup("Form letter text")).thenReturn(Optional.of("Cached summary"));
+
+        // When
+        documentService.updateOcrResult(documentId, "Form letter text", null);
+
+        // Then
+        assertEquals(Document.ProcessingStatus.COMPLETED, testDocument.getProcessingStatus());
+        assertEquals("Cached summary", testDocument.getSummaryText());
+        verify(eventPublisher).publishEvent(new DocumentSummarizedEvent(testDocument));
+        verify(eventPublisher, never()).publishEvent(any(DocumentReadyForSummaryEvent.class));
+    }
+
+    @Test
+    void testUploadArchive_storesSupportedEntriesAndReportsOthers() throws IOException {
+        // Given
+        final MockMultipartFile archive = new MockMultipartFile("file", "scans.zip", "application/zip",
+                zip("invoice.pdf", "scans/receipt.png", "notes.txt", "__MACOSX/._invoice.pdf"));
+        archiveLimits(100, DataSize.ofMegabytes(1), DataSize.ofMegabytes(10));
+
+        when(minioService.uploadStream(any(InputStream.class), anyLong(), anyString(), anyString()))
+                .thenReturn("object-key");
+        // The pending chunk is cleared after flushing, so record its size at save time
+        final List<Integer> savedChunkSizes = new ArrayList<>();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            final List<Document> docs = invocation.getArgument(0);
+            savedChunkSizes.add(docs.size());
+            return List.copyOf(docs);
+        });
+        when(mapper.toSummaryDto(any(Document.class))).thenReturn(testSummaryDto);
+
+        // When
+        final BulkUploadResultDto result = documentService.uploadArchive(archive, List.of());
+
+        // Then
+        assertEquals(3, result.total());
+        assertEquals(2, result.succeeded());
+        assertEquals(1, result.failed());
+        verify(minioService).uploadStream(any(InputStream.class), anyLong(), eq("invoice.pdf"), eq("application/pdf"));
+        verify(minioService).uploadStream(any(InputStream.class), anyLong(), eq("receipt.png"), eq("image/png"));
+        assertEquals(List.of(2), savedChunkSizes);
+        verify(documentSearchService).indexDocumentsMetadata(anyList());
+        verify(publisher).publishDocumentsForOcr(anyList());
+    }
+
+    @Test
+    void testUploadArchive_entryLimitKeepsStoredEntriesAndReportsTheRest() throws IOException {
+        // Given
+        final MockMultipartFile archive = new MockMultipartFile("file", "scans.zip", "application/zip",
+                zip("a.pdf", "b.pdf", "c.pdf"));
+        archiveLimits(2, DataSize.ofMegabytes(1), DataSize.ofMegabytes(10));
+        when(minioService.uploadStream(any(InputStream.class), anyLong(), anyString(), anyString()))
+                .thenReturn("object-key");
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+        when(mapper.toSummaryDto(any(Document.class))).thenReturn(testSummaryDto);
+
+        // When
+        final BulkUploadResultDto result = documentService.uploadArchive(archive, List.of());
+
+        // Then - the two stored entries are reported with the skipped remainder instead of an error
+        assertEquals(3, result.total());
+        assertEquals(2, result.succeeded());
+        assertEquals(1, result.failed());
+        verify(minioService, never()).uploadStream(any(InputStream.class), anyLong(), eq("c.pdf"), anyString());
+        verify(publisher).publishDocumentsForOcr(anyList());
+    }
+
+    @Test
+    void testUploadArchive_oversizedEntryIsStoppedWhileStreaming() throws IOException {
+        // Given - "content of big.pdf" (18 bytes) is longer than the 16 byte entry limit
+        final MockMultipartFile archive = new MockMultipartFile("file", "scans.zip", "application/zip",
+                zip("big.pdf", "a.pdf"));
+        archiveLimits(100, DataSize.ofBytes(16), DataSize.ofMegabytes(10));
+        uploadReadsStream();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+        when(mapper.toSummaryDto(any(Document.class))).thenReturn(testSummaryDto);
+
+        // When
+        final BulkUploadResultDto result = documentService.uploadArchive(archive, List.of());
+
+        // Then - the oversized entry fails on its own, the next one is still stored
+        assertEquals(2, result.total());
+        assertEquals(1, result.succeeded());
+        assertTrue(result.items().stream()
+                .anyMatch(item -> item.error() != null && item.error().startsWith("Entry exceeds the maximum size")));
+    }
+
+    @Test
+    void testUploadArchive_totalSizeLimitStopsTheArchive() throws IOException {
+        // Given - room for the first entry only
+        final MockMultipartFile archive = new MockMultipartFile("file", "scans.zip", "application/zip",
+                zip("a.pdf", "b.pdf", "c.pdf"));
+        archiveLimits(100, DataSize.ofMegabytes(1), DataSize.ofBytes(20));
+        uploadReadsStream();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+        when(mapper.toSummaryDto(any(Document.class))).thenReturn(testSummaryDto);
+
+        // When
+        final BulkUploadResultDto result = documentService.uploadArchive(archive, List.of());
+
+        // Then
+        assertEquals(2, result.total());
+        assertEquals(1, result.succeeded());
+        verify(minioService, never()).uploadStream(any(InputStream.class), anyLong(), eq("c.pdf"), anyString());
+    }
+
+    @Test
+    void testUploadArchive_rejectsUnsupportedArchiveType() {
+        // Given
+        final MockMultipartFile archive = new MockMultipartFile("file", "scans.rar", "application/x-rar",
+                new byte[] { 1, 2, 3 });
+
+        // When & Then
+        assertThrows(InvalidDocumentException.class,
+                () -> documentService.uploadArchive(archive, List.of(UUID.randomUUID().toString())));
+        verifyNoInteractions(categoryService, minioService);
+    }
+
+    @Test
+    void testOnCategoryRemoved_reindexesAffectedDocumentsInBatches() {
+        // Given
+        ReflectionTestUtils.setField(documentService, "categoryReindexBatchSize", 2);
+        final List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(repository.findWithCategoriesByIdIn(anyList())).thenReturn(List.of(testDocument));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // When
+        documentService.onCategoryRemoved(new CategoryRemovedEvent(UUID.randomUUID(), ids));
+
+        // Then
+        verify(repository).findWithCategoriesByIdIn(ids.subList(0, 2));
+        verify(repository).findWithCategoriesByIdIn(ids.subList(2, 3));
+        verify(documentSearchService, times(2)).indexDocumentsMetadata(List.of(testDocument));
+    }
+
+    private void archiveLimits(final int maxEntries, final DataSize maxEntrySize, final DataSize maxTotalSize) {
+        ReflectionTestUtils.setField(documentService, "archiveMaxEntries", maxEntries);
+        ReflectionTestUtils.setField(documentService, "archiveFlushSize", 100);
+        ReflectionTestUtils.setField(documentService, "archiveMaxEntrySize", maxEntrySize);
+        ReflectionTestUtils.setField(documentService, "archiveMaxTotalSize", maxTotalSize);
+    }
+
+    // Drains the entry like MinIO does, so the size limits of the entry stream apply
+    private void uploadReadsStream() {
+        when(minioService.uploadStream(any(InputStream.class), anyLong(), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    try {
+                        invocation.getArgument(0, InputStream.class).readAllBytes();
+                    } catch (final IOException e) {
+                        throw new DocumentUploadException("Failed to upload document to MinIO", e);
+                    }
+                    return "object-key";
+                });
+    }
+
+    private static byte[] zip(final String... names) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (final String name : names) {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write(("content of " + name).getBytes());
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            final TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
     }
 }
@@ -0,0 +1,189 @@
+package at.technikum.restapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import at.technikum.restapi.persistence.model.Document;
+import at.technikum.restapi.persistence.repository.DocumentRepository;
+import at.technikum.restapi.service.messaging.publisher.DocumentPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentSweeperTest {
+
+    @Mock
+    private DocumentRepository repository;
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private DocumentPublisher publisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private DocumentSweeperImpl sweeper;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sweeper, "sla", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(sweeper, "batchSize", 50);
+        ReflectionTestUtils.setField(sweeper, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(sweeper, "batchPause", Duration.ZERO);
+        ReflectionTestUtils.setField(sweeper, "maxAttempts", 3);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            final TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        lenient().when(repository.markSwept(any(UUID.class), any(Document.ProcessingStatus.class), anyInt(),
+                any(Instant.class))).thenReturn(1);
+    }
+
+    @Test
+    void testSweep_republishesPendingDocumentForOcr() {
+        // Given
+        final Document pending = stuckDocument(Document.ProcessingStatus.PENDING, 0);
+        when(repository.findStuck(anyCollection(), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(pending));
+
+        // When
+        final int swept = sweeper.sweep();
+
+        // Then - the claim is stored before the message goes out
+        assertEquals(1, swept);
+        final InOrder inOrder = inOrder(repository, publisher);
+        inOrder.verify(repository).markSwept(eq(pending.getId()), eq(Document.ProcessingStatus.PENDING), eq(0),
+                any(Instant.class));
+        inOrder.verify(publisher).publishDocumentForOcr(pending);
+        verify(publisher, never()).publishDocumentForGenAI(any());
+    }
+
+    @Test
+    void testSweep_republishesOcrCompletedDocumentForGenAI() {
+        // Given
+        final Document ocrDone = stuckDocument(Document.ProcessingStatus.OCR_COMPLETED, 1);
+        when(repository.findStuck(anyCollection(), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(ocrDone));
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        verify(repository).markSwept(eq(ocrDone.getId()), eq(Document.ProcessingStatus.OCR_COMPLETED), eq(1),
+                any(Instant.class));
+        verify(publisher).publishDocumentForGenAI(ocrDone);
+        verify(publisher, never()).publishDocumentForOcr(any());
+    }
+
+    @Test
+    void testSweep_marksDocumentFailedAfterMaxAttempts() {
+        // Given
+        final Document hopeless = stuckDocument(Document.ProcessingStatus.PENDING, 3);
+        when(repository.findStuck(anyCollection(), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(hopeless));
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        verify(documentService).markOcrAsFailed(eq(hopeless.getId()), anyString());
+        verify(publisher, never()).publishDocumentForOcr(any());
+    }
+
+    @Test
+    void testSweep_skipsDocumentChangedConcurrently() {
+        // Given - the OCR result was committed after the document was read
+        final Document advanced = stuckDocument(Document.ProcessingStatus.PENDING, 0);
+        when(repository.findStuck(anyCollection(), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(advanced));
+        when(repository.markSwept(any(UUID.class), any(Document.ProcessingStatus.class), anyInt(),
+                any(Instant.class))).thenReturn(0);
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        verify(publisher, never()).publishDocumentForOcr(any());
+        verify(documentService, never()).markOcrAsFailed(any(UUID.class), anyString());
+    }
+
+    @Test
+    void testSweep_failedClaimDoesNotAffectRestOfBatch() {
+        // Given
+        final Document conflicting = stuckDocument(Document.ProcessingStatus.PENDING, 0);
+        final Document healthy = stuckDocument(Document.ProcessingStatus.PENDING, 0);
+        when(repository.findStuck(anyCollection(), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(conflicting, healthy));
+        when(repository.markSwept(eq(conflicting.getId()), any(Document.ProcessingStatus.class), anyInt(),
+                any(Instant.class))).thenThrow(new CannotAcquireLockException("Lock timeout"));
+
+        // When
+        final int swept = sweeper.sweep();
+
+        // Then
+        assertEquals(2, swept);
+        verify(publisher, never()).publishDocumentForOcr(conflicting);
+        verify(publisher).publishDocumentForOcr(healthy);
+    }
+
+    @Test
+    void testSweep_nothingStuck() {
+        // Given
+        when(repository.findStuck(anyCollection(), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // When
+        final int swept = sweeper.sweep();
+
+        // Then
+        assertEquals(0, swept);
+        verify(publisher, never()).publishDocumentForOcr(any());
+        verify(publisher, never()).publishDocumentForGenAI(any());
+    }
+
+    private static Document stuckDocument(final Document.ProcessingStatus status, final int sweepAttempts) {
+        final Document document = Document.builder()
+                .id(UUID.randomUUID())
+                .title("Stuck Document")
+                .originalFilename("stuck.pdf")
+                .contentType("application/pdf")
+                .fileSize(1024L)
+                .fileBucket("test-bucket")
+                .fileObjectKey("test-key")
+                .createdAt(Instant.now().minus(Duration.ofHours(2)))
+                .processingStatus(status)
+                .sweepAttempts(sweepAttempts)
+                .build();
+        document.setOcrText("Some OCR text");
+        return document;
+    }
+}
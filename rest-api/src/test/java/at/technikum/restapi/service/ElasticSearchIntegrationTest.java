@@ -3,12 +3,21 @@ package at.technikum.restapi.service;
 import at.technikum.restapi.persistence.model.Document;
 import at.technikum.restapi.persistence.model.SearchDocument;
 import at.technikum.restapi.persistence.repository.SearchDocumentRepository;
+import at.technikum.restapi.service.dto.FacetBucketDto;
+import at.technikum.restapi.service.dto.FacetedSearchHits;
+import at.technikum.restapi.service.dto.FacetedSearchRequestDto;
+import at.technikum.restapi.service.dto.SearchHitsPage;
+import at.technikum.restapi.service.dto.SearchPageRequestDto;
+import at.technikum.restapi.service.dto.SearchSort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.elasticsearch.ElasticsearchContainer;
@@ -19,15 +28,20 @@ import org.testcontainers.utility.DockerImageName;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+@SuppressWarnings("unchecked")
 @Testcontainers
 @SpringBootTest
+@ActiveProfiles("test")
 class ElasticSearchIntegrationTest {
 
     @Container
@@ -118,9 +132,9 @@ class ElasticSearchIntegrationTest {
                 .fileObjectKey("unique.pdf")
                 .createdAt(Instant.now())
                 .processingStatus(Document.ProcessingStatus.COMPLETED)
-                .ocrText("this contains uniquetokenocr123")
-                .summaryText("this contains uniquesummarytoken456")
                 .build();
+        uniqueDoc.setOcrText("this contains uniquetokenocr123");
+        uniqueDoc.setSummaryText("this contains uniquesummarytoken456");
 
         documentSearchService.indexDocumentMetadata(uniqueDoc);
         elasticsearchOperations.indexOps(SearchDocument.class).refresh();
@@ -153,6 +167,163 @@ class ElasticSearchIntegrationTest {
         assertTrue(ids.contains(report2.getId()));
     }
 
+    @Test
+    void facetedSearchReturnsHitsAndAggregationsInOneRequest() {
+        Document invoice1 = createDocument("Invoice 1001", "invoice-1001.pdf");
+        Document invoice2 = createDocument("Invoice 1002", "invoice-1002.pdf");
+        Document scan = createDocument("Invoice Scan", "invoice-scan.png");
+        scan.setContentType("image/png");
+        scan.setFileSize(20L * 1024 * 1024);
+        scan.setProcessingStatus(Document.ProcessingStatus.PENDING);
+
+        documentSearchService.indexDocumentsMetadata(List.of(invoice1, invoice2, scan));
+        elasticsearchOperations.indexOps(SearchDocument.class).refresh();
+
+        FacetedSearchHits result = documentSearchService.facetedSearch(FacetedSearchRequestDto.builder()
+                .query("Invoice")
+                .page(0)
+                .size(10)
+                .build());
+
+        assertEquals(3, result.total());
+        assertEquals(3, result.hits().size());
+        assertEquals(List.of(new FacetBucketDto("application/pdf", 2), new FacetBucketDto("image/png", 1)),
+                result.facets().contentTypes());
+        assertEquals(List.of(new FacetBucketDto("COMPLETED", 2), new FacetBucketDto("PENDING", 1)),
+                result.facets().processingStatuses());
+        assertEquals(1, result.facets().createdAt().size());
+        assertEquals(3, result.facets().createdAt().getFirst().count());
+        assertEquals(2, result.facets().fileSize().getFirst().count());
+        assertEquals(1, result.facets().fileSize().get(2).count());
+    }
+
+    @Test
+    void facetedSearchDrillDownNarrowsHitsAndFacets() {
+        Document pdf = createDocument("Report PDF", "report.pdf");
+        Document png = createDocument("Report PNG", "report.png");
+        png.setContentType("image/png");
+
+        documentSearchService.indexDocumentsMetadata(List.of(pdf, png));
+        elasticsearchOperations.indexOps(SearchDocument.class).refresh();
+
+        FacetedSearchHits result = documentSearchService.facetedSearch(FacetedSearchRequestDto.builder()
+                .contentTypes(List.of("image/png"))
+                .page(0)
+                .size(10)
+                .build());
+
+        assertEquals(1, result.total());
+        assertEquals(png.getId(), result.hits().getFirst().id());
+        assertEquals(List.of(new FacetBucketDto("image/png", 1)), result.facets().contentTypes());
+    }
+
+    @Test
+    void searchPageWalksResultsWithCursor() {
+        Document first = createDocument("Alpha Contract", "alpha.pdf");
+        Document second = createDocument("Beta Contract", "beta.pdf");
+        Document third = createDocument("Gamma Contract", "gamma.pdf");
+
+        documentSearchService.indexDocumentsMetadata(List.of(third, first, second));
+        elasticsearchOperations.indexOps(SearchDocument.class).refresh();
+
+        SearchPageRequestDto.SearchPageRequestDtoBuilder request = SearchPageRequestDto.builder()
+                .query("Contract")
+                .sort(SearchSort.TITLE)
+                .direction(Sort.Direction.ASC)
+                .size(2);
+
+        SearchHitsPage page1 = documentSearchService.searchPage(request.build());
+        assertEquals(3, page1.total());
+        assertEquals(List.of(first.getId(), second.getId()),
+                page1.hits().stream().map(SearchDocument::id).toList());
+        assertNotNull(page1.nextCursor());
+
+        SearchHitsPage page2 = documentSearchService.searchPage(request.cursor(page1.nextCursor()).build());
+        assertEquals(List.of(third.getId()), page2.hits().stream().map(SearchDocument::id).toList());
+        assertNull(page2.nextCursor());
+    }
+
+    @Test
+    void reindexRebuildsIndexCreatedWithDynamicMapping() {
+        // Given - an index that was auto-created by a plain write, so none of the mapped fields exist
+        IndexOperations indexOps = elasticsearchOperations.indexOps(SearchDocument.class);
+        indexOps.getInformation().forEach(info ->
+                elasticsearchOperations.indexOps(IndexCoordinates.of(info.getName())).delete());
+        elasticsearchOperations.indexOps(IndexCoordinates.of("documents")).create();
+
+        Document beta = createDocument("Beta Contract", "beta.pdf");
+        Document alpha = createDocument("Alpha Contract", "alpha.pdf");
+
+        // When
+        documentSearchService.reindex(List.of(beta, alpha));
+
+        // Then - the title sort needs the title.keyword sub-field from the entity mapping
+        Map<String, Object> properties = (Map<String, Object>) indexOps.getMapping().get("properties");
+        assertTrue(((Map<String, Object>) properties.get("title")).containsKey("fields"));
+
+        SearchHitsPage page = documentSearchService.searchPage(SearchPageRequestDto.builder()
+                .query("Contract")
+                .sort(SearchSort.TITLE)
+                .direction(Sort.Direction.ASC)
+                .size(10)
+                .build());
+        assertEquals(List.of(alpha.getId(), beta.getId()), page.hits().stream().map(SearchDocument::id).toList());
+
+        // Writes through the alias reach the new index
+        Document gamma = createDocument("Gamma Contract", "gamma.pdf");
+        documentSearchService.indexDocumentMetadata(gamma);
+        indexOps.refresh();
+        assertEquals(3, documentSearchService.search("Contract", List.of()).size());
+    }
+
+    @Test
+    void searchPageReturnsHighlightedSnippetsWithoutText() {
+        Document document = createDocument("Quarterly Report", "report.pdf");
+        document.setOcrText("Revenue grew slightly. The payment for order 4711 is overdue since March.");
+
+        documentSearchService.indexDocumentsMetadata(List.of(document));
+        elasticsearchOperations.indexOps(SearchDocument.class).refresh();
+
+        SearchHitsPage page = documentSearchService.searchPage(SearchPageRequestDto.builder()
+                .query("overdue")
+                .size(10)
+                .build());
+
+        assertEquals(1, page.hits().size());
+        assertNull(page.hits().getFirst().ocrText());
+        List<String> snippets = page.highlights().get(document.getId());
+        assertNotNull(snippets);
+        assertTrue(snippets.stream().anyMatch(snippet -> snippet.contains("<em>overdue</em>")));
+    }
+
+    @Test
+    void searchMatchesGermanInflections() {
+        Document document = createDocument("Scan 42", "scan-42.pdf");
+        document.setOcrText("Die Rechnungen wurden fristgerecht bezahlt.");
+
+        documentSearchService.indexDocumentMetadata(document);
+        elasticsearchOperations.indexOps(SearchDocument.class).refresh();
+
+        List<SearchDocument> results = documentSearchService.search("Rechnung", new ArrayList<>());
+
+        assertEquals(1, results.size());
+        assertEquals(document.getId(), results.getFirst().id());
+    }
+
+    @Test
+    void suggestCompletesTitlesAndFilenames() {
+        Document report = createDocument("Quarterly Report", "report.pdf");
+        Document invoice = createDocument("Invoice 1001", "invoice-1001.pdf");
+
+        documentSearchService.indexDocumentsMetadata(List.of(report, invoice));
+        elasticsearchOperations.indexOps(SearchDocument.class).refresh();
+
+        assertEquals(List.of("Quarterly Report"), documentSearchService.suggest("quar"));
+        assertEquals(List.of("Quarterly Report"), documentSearchService.suggest("Quarterly Rep"));
+        assertEquals(List.of("report.pdf"), documentSearchService.suggest("repo"));
+        assertTrue(documentSearchService.suggest("xyz").isEmpty());
+    }
+
     private void ensureIndex() {
         IndexOperations indexOps = elasticsearchOperations.indexOps(SearchDocument.class);
         if (!indexOps.exists()) {
@@ -162,7 +333,7 @@ class ElasticSearchIntegrationTest {
     }
 
     private Document createDocument(String title, String originalFilename) {
-        return Document.builder()
+        Document document = Document.builder()
                 .id(UUID.randomUUID())
                 .title(title)
                 .originalFilename(originalFilename)
@@ -172,8 +343,9 @@ class ElasticSearchIntegrationTest {
                 .fileObjectKey(originalFilename)
                 .createdAt(Instant.now())
                 .processingStatus(Document.ProcessingStatus.COMPLETED)
-                .ocrText("Sample OCR text for " + title)
-                .summaryText("Summary for " + title)
                 .build();
+        document.setOcrText("Sample OCR text for " + title);
+        document.setSummaryText("Summary for " + title);
+        return document;
     }
 }
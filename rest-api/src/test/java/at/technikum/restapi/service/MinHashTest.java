@@ -0,0 +1,79 @@
+package at.technikum.restapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class MinHashTest {
+
+    private static final String INVOICE = IntStream.range(0, 60)
+            .mapToObj(i -> "Position " + i + " Rechnung Betrag Lieferung Artikel")
+            .collect(Collectors.joining(" "));
+
+    @Test
+    void testSignature_identicalTextIgnoresCaseAndPunctuation() {
+        // When
+        int[] a = MinHash.signature(INVOICE);
+        int[] b = MinHash.signature(INVOICE.toUpperCase().replace(" ", ", "));
+
+        // Then
+        assertEquals(1.0, MinHash.similarity(a, b));
+        assertArrayEquals(MinHash.bandBuckets(a), MinHash.bandBuckets(b));
+    }
+
+    @Test
+    void testSignature_smallEditStaysSimilar() {
+        // Given - an OCR misread in one word
+        String rescan = INVOICE.replace("Position 17 ", "Posltion 17 ");
+
+        // When
+        double similarity = MinHash.similarity(MinHash.signature(INVOICE), MinHash.signature(rescan));
+
+        // Then
+        assertTrue(similarity > 0.9, "similarity was " + similarity);
+    }
+
+    @Test
+    void testSignature_unrelatedTextIsDissimilar() {
+        // Given
+        String letter = IntStream.range(0, 60)
+                .mapToObj(i -> "Sehr geehrte Damen und Herren Termin " + i)
+                .collect(Collectors.joining(" "));
+
+        // When
+        int[] a = MinHash.signature(INVOICE);
+        int[] b = MinHash.signature(letter);
+
+        // Then
+        assertTrue(MinHash.similarity(a, b) < 0.1);
+        long[] bucketsA = MinHash.bandBuckets(a);
+        long[] bucketsB = MinHash.bandBuckets(b);
+        assertTrue(Arrays.stream(bucketsA).noneMatch(bucket -> Arrays.stream(bucketsB).anyMatch(o -> o == bucket)));
+    }
+
+    @Test
+    void testSignature_noWords() {
+        assertNull(MinHash.signature(null));
+        assertNull(MinHash.signature(" ... "));
+    }
+
+    @Test
+    void testBytes_roundTrip() {
+        // Given
+        int[] signature = MinHash.signature(INVOICE);
+
+        // When
+        int[] restored = MinHash.fromBytes(MinHash.toBytes(signature));
+
+        // Then
+        assertArrayEquals(signature, restored);
+        assertEquals(MinHash.NUM_HASHES * Integer.BYTES, MinHash.toBytes(signature).length);
+    }
+}
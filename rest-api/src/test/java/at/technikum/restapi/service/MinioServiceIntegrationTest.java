@@ -66,6 +66,9 @@ class MinioServiceIntegrationTest {
     @MockitoBean
     private DocumentSearchService documentSearchService;
 
+    @MockitoBean
+    private EmbeddingIndexer embeddingIndexer;
+
     @BeforeEach
     void setup() throws Exception {
         // Ensure bucket exists
@@ -0,0 +1,106 @@
+package at.technikum.restapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+
+import at.technikum.restapi.persistence.model.Document;
+import at.technikum.restapi.service.event.DocumentReadyForSummaryEvent;
+import at.technikum.restapi.service.event.DocumentSummarizedEvent;
+import at.technikum.restapi.service.messaging.publisher.DocumentPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class PipelineFanOutTest {
+
+    @Mock
+    private DocumentSearchService documentSearchService;
+
+    @Mock
+    private DocumentPublisher publisher;
+
+    // Collects the submitted steps so the test decides when (and whether) they run
+    private final List<Runnable> submitted = new ArrayList<>();
+    private final Executor pipelineExecutor = submitted::add;
+
+    private PipelineFanOutImpl fanOut;
+    private Document document;
+
+    @BeforeEach
+    void setUp() {
+        fanOut = new PipelineFanOutImpl(documentSearchService, publisher, pipelineExecutor);
+        document = Document.builder()
+                .id(UUID.randomUUID())
+                .title("Invoice")
+                .createdAt(Instant.now())
+                .processingStatus(Document.ProcessingStatus.OCR_COMPLETED)
+                .build();
+        document.setOcrText("OCR text");
+    }
+
+    @Test
+    void testReadyForSummary_indexesAndPublishesAsSeparateSteps() {
+        // When
+        fanOut.onReadyForSummary(new DocumentReadyForSummaryEvent(document));
+
+        // Then - nothing runs on the calling thread
+        assertThat(submitted).hasSize(2);
+        verify(documentSearchService, never()).updateDocumentAfterOcr(any(Document.class));
+        verify(publisher, never()).publishDocumentForGenAI(any(Document.class));
+
+        submitted.forEach(Runnable::run);
+        verify(documentSearchService).updateDocumentAfterOcr(document);
+        verify(publisher).publishDocumentForGenAI(document);
+    }
+
+    @Test
+    void testReadyForSummary_slowIndexDoesNotHoldBackPublish() {
+        // Given - the index step has not finished (or even started) yet
+        fanOut.onReadyForSummary(new DocumentReadyForSummaryEvent(document));
+
+        // When - only the second step runs
+        submitted.get(1).run();
+
+        // Then
+        verify(publisher).publishDocumentForGenAI(document);
+        verify(documentSearchService, never()).updateDocumentAfterOcr(any(Document.class));
+    }
+
+    @Test
+    void testReadyForSummary_publishFailureIsLeftToSweeper() {
+        // Given
+        doThrow(new AmqpConnectException(new RuntimeException("Broker down")))
+                .when(publisher).publishDocumentForGenAI(document);
+        fanOut.onReadyForSummary(new DocumentReadyForSummaryEvent(document));
+
+        // When & Then - no exception escapes into the executor
+        submitted.forEach(Runnable::run);
+        verify(documentSearchService).updateDocumentAfterOcr(document);
+    }
+
+    @Test
+    void testSummarized_indexesSummary() {
+        // When
+        fanOut.onSummarized(new DocumentSummarizedEvent(document));
+        submitted.forEach(Runnable::run);
+
+        // Then
+        assertThat(submitted).hasSize(1);
+        verify(documentSearchService).updateDocumentAfterGenAI(document);
+        verify(publisher, never()).publishDocumentForGenAI(any(Document.class));
+    }
+}
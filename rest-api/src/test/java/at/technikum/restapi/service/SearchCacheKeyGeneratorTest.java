@@ -0,0 +1,44 @@
+package at.technikum.restapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SearchCacheKeyGeneratorTest {
+
+    private final SearchCacheKeyGenerator keyGenerator = new SearchCacheKeyGenerator();
+
+    @Test
+    void testEquivalentSearches_shareKey() {
+        // Given
+        final Object key1 = keyGenerator.generate(null, null, "  Invoice   2024 ", List.of("Tax", "finance"));
+        final Object key2 = keyGenerator.generate(null, null, "invoice 2024", List.of("FINANCE", "tax"));
+
+        // Then
+        assertEquals(key1, key2);
+        assertEquals(key1.hashCode(), key2.hashCode());
+    }
+
+    @Test
+    void testNullAndEmptyParameters_shareKey() {
+        // When
+        final Object key1 = keyGenerator.generate(null, null, null, null);
+        final Object key2 = keyGenerator.generate(null, null, "", List.of());
+
+        // Then
+        assertEquals(key1, key2);
+    }
+
+    @Test
+    void testDifferentCategories_differentKeys() {
+        // When
+        final Object key1 = keyGenerator.generate(null, null, "invoice", List.of("tax"));
+        final Object key2 = keyGenerator.generate(null, null, "invoice", List.of("finance"));
+
+        // Then
+        assertNotEquals(key1, key2);
+    }
+}
@@ -0,0 +1,107 @@
+package at.technikum.restapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import at.technikum.restapi.persistence.model.SummaryCacheEntry;
+import at.technikum.restapi.persistence.repository.SummaryCacheRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryCacheServiceTest {
+
+    @Mock
+    private SummaryCacheRepository repository;
+
+    @InjectMocks
+    private SummaryCacheServiceImpl summaryCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(summaryCache, "enabled", true);
+        ReflectionTestUtils.setField(summaryCache, "ttl", Duration.ofDays(90));
+        ReflectionTestUtils.setField(summaryCache, "maxEntries", 1000);
+        ReflectionTestUtils.setField(summaryCache, "summaryMaxInputLength", 20);
+    }
+
+    @Test
+    void testFingerprint_ignoresCaseAndWhitespace() {
+        assertEquals(summaryCache.fingerprint("Dear Customer,\n  your invoice"),
+                summaryCache.fingerprint("  dear customer, your   INVOICE "));
+        assertNotEquals(summaryCache.fingerprint("Dear Customer"), summaryCache.fingerprint("Dear Supplier"));
+    }
+
+    @Test
+    void testFingerprint_onlyCoversTextSentToGenAI() {
+        // Given - both texts share the first 20 characters the worker would see
+        assertEquals(summaryCache.fingerprint("12345678901234567890 page two"),
+                summaryCache.fingerprint("12345678901234567890 other ending"));
+    }
+
+    @Test
+    void testLookup_hitRefreshesLastUse() {
+        // Given
+        final Instant longAgo = Instant.now().minus(Duration.ofDays(30));
+        final SummaryCacheEntry entry = SummaryCacheEntry.builder()
+                .fingerprint(summaryCache.fingerprint("Form letter"))
+                .summaryText("Summary")
+                .createdAt(longAgo)
+                .lastUsedAt(longAgo)
+                .build();
+        when(repository.findById(entry.getFingerprint())).thenReturn(Optional.of(entry));
+
+        // When
+        final Optional<String> summary = summaryCache.lookup("Form letter");
+
+        // Then
+        assertEquals(Optional.of("Summary"), summary);
+        assertTrue(entry.getLastUsedAt().isAfter(longAgo));
+    }
+
+    @Test
+    void testLookup_disabled() {
+        // Given
+        ReflectionTestUtils.setField(summaryCache, "enabled", false);
+
+        // When
+        final Optional<String> summary = summaryCache.lookup("Form letter");
+
+        // Then
+        assertTrue(summary.isEmpty());
+        verify(repository, never()).findById(anyString());
+    }
+
+    @Test
+    void testEvict_expiredAndOverCapacity() {
+        // Given
+        final Instant boundary = Instant.now().minus(Duration.ofDays(1));
+        when(repository.deleteUnusedSince(any(Instant.class))).thenReturn(3, 2);
+        when(repository.findLastUsedAtNewestFirst(any(Pageable.class))).thenReturn(List.of(boundary));
+
+        // When
+        final int evicted = summaryCache.evict();
+
+        // Then
+        assertEquals(5, evicted);
+        verify(repository).deleteUnusedSince(boundary);
+    }
+}
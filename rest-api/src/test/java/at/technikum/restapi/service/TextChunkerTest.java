@@ -0,0 +1,45 @@
+package at.technikum.restapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TextChunkerTest {
+
+    @Test
+    void testChunk_overlappingWindows() {
+        // When
+        List<String> chunks = TextChunker.chunk("one two three four five six seven", 4, 1, 10);
+
+        // Then
+        assertEquals(List.of("one two three four", "four five six seven"), chunks);
+    }
+
+    @Test
+    void testChunk_shortTextIsSingleChunk() {
+        // When
+        List<String> chunks = TextChunker.chunk("  just   a few\nwords ", 200, 40, 10);
+
+        // Then
+        assertEquals(List.of("just a few words"), chunks);
+    }
+
+    @Test
+    void testChunk_cappedAtMaxChunks() {
+        // When
+        List<String> chunks = TextChunker.chunk("a b c d e f g h i j", 2, 0, 3);
+
+        // Then
+        assertEquals(List.of("a b", "c d", "e f"), chunks);
+    }
+
+    @Test
+    void testChunk_blankText() {
+        // Then
+        assertTrue(TextChunker.chunk(null, 200, 40, 10).isEmpty());
+        assertTrue(TextChunker.chunk("   ", 200, 40, 10).isEmpty());
+    }
+}
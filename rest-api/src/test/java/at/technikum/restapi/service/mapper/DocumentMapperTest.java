@@ -3,11 +3,13 @@ package at.technikum.restapi.service.mapper;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 
+import at.technikum.restapi.persistence.model.Category;
 import at.technikum.restapi.persistence.model.Document;
 import at.technikum.restapi.persistence.model.SearchDocument;
 import at.technikum.restapi.service.dto.DocumentDetailDto;
@@ -214,13 +216,13 @@ class DocumentMapperTest {
                 .fileSize(8000L)
                 .fileBucket("detail-bucket")
                 .fileObjectKey("detail-key")
-                .summaryText("Detail summary")
                 .createdAt(now)
                 .ocrProcessedAt(ocrProcessed)
                 .genaiProcessedAt(genaiProcessed)
                 .processingStatus(Document.ProcessingStatus.COMPLETED)
                 .processingError(null)
                 .build();
+        document.setSummaryText("Detail summary");
 
         // When
         DocumentDetailDto dto = mapper.toDetailDto(document);
@@ -411,11 +413,11 @@ class DocumentMapperTest {
                 .fileSize(6000L)
                 .fileBucket("search-bucket")
                 .fileObjectKey("search-key")
-                .ocrText("Searchable text")
-                .summaryText("Searchable summary")
                 .createdAt(now)
                 .processingStatus(Document.ProcessingStatus.COMPLETED)
                 .build();
+        document.setOcrText("Searchable text");
+        document.setSummaryText("Searchable summary");
 
         // When
         SearchDocument searchDoc = mapper.toSearchDocument(document);
@@ -433,6 +435,29 @@ class DocumentMapperTest {
         assertThat(searchDoc.processingStatus()).isEqualTo("COMPLETED");
     }
 
+    @Test
+    void testToSearchDocument_suggestInputs() {
+        // Given
+        Document document = Document.builder()
+                .id(UUID.randomUUID())
+                .title("Quarterly Report")
+                .originalFilename("report.pdf")
+                .contentType("application/pdf")
+                .fileSize(1000L)
+                .fileBucket("bucket")
+                .fileObjectKey("key")
+                .createdAt(Instant.now())
+                .processingStatus(Document.ProcessingStatus.COMPLETED)
+                .categories(List.of(Category.builder().name("Finance").build()))
+                .build();
+
+        // When
+        SearchDocument searchDoc = mapper.toSearchDocument(document);
+
+        // Then
+        assertThat(searchDoc.suggest().getInput()).containsExactly("Quarterly Report", "report.pdf", "Finance");
+    }
+
     @Test
     void testToSearchDocument_processingStatusConversion() {
         // Test all processing statuses are converted to string
@@ -0,0 +1,119 @@
+package at.technikum.restapi.service.messaging;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.support.RetryTemplate;
+
+import at.technikum.restapi.service.DocumentService;
+import at.technikum.restapi.service.ProcessedMessageService;
+import at.technikum.restapi.service.exception.DocumentProcessingException;
+import at.technikum.restapi.service.messaging.dto.GenAIResponseDto;
+import at.technikum.restapi.service.messaging.dto.OcrResponseDto;
+import at.technikum.restapi.service.messaging.listener.DocumentListenerImpl;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentListenerTest {
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private ProcessedMessageService processedMessages;
+
+    @Spy
+    private RetryTemplate optimisticLockRetryTemplate = RetryTemplate.builder()
+            .maxAttempts(3)
+            .noBackoff()
+            .retryOn(OptimisticLockingFailureException.class)
+            .traversingCauses()
+            .build();
+
+    @InjectMocks
+    private DocumentListenerImpl listener;
+
+    @Test
+    void testOcrResponse_appliedAndRecorded() {
+        // Given
+        final UUID documentId = UUID.randomUUID();
+        when(processedMessages.isProcessed("msg-1")).thenReturn(false);
+
+        // When
+        listener.handleOcrResponse(ocrResponse(documentId), "msg-1");
+
+        // Then
+        verify(documentService).updateOcrResult(documentId, "OCR text", null);
+        verify(processedMessages).markProcessed("msg-1");
+    }
+
+    @Test
+    void testOcrResponse_versionConflictIsRetried() {
+        // Given - a user edit committed between reading and writing the document
+        final UUID documentId = UUID.randomUUID();
+        when(processedMessages.isProcessed("msg-1")).thenReturn(false);
+        doThrow(new DocumentProcessingException("Error updating OCR result",
+                new ObjectOptimisticLockingFailureException("Document", documentId)))
+                .doNothing()
+                .when(documentService).updateOcrResult(documentId, "OCR text", null);
+
+        // When
+        listener.handleOcrResponse(ocrResponse(documentId), "msg-1");
+
+        // Then
+        verify(documentService, times(2)).updateOcrResult(documentId, "OCR text", null);
+        verify(processedMessages).markProcessed("msg-1");
+    }
+
+    @Test
+    void testOcrResponse_redeliveryIsSkipped() {
+        // Given
+        when(processedMessages.isProcessed("msg-1")).thenReturn(true);
+
+        // When
+        listener.handleOcrResponse(ocrResponse(UUID.randomUUID()), "msg-1");
+
+        // Then
+        verify(documentService, never()).updateOcrResult(any(), any(), any());
+        verify(processedMessages, never()).markProcessed(anyString());
+    }
+
+    @Test
+    void testGenAIResponse_redeliveryIsSkipped() {
+        // Given
+        when(processedMessages.isProcessed("msg-2")).thenReturn(true);
+        final GenAIResponseDto response = GenAIResponseDto.builder()
+                .documentId(UUID.randomUUID().toString())
+                .status("completed")
+                .summaryText("Summary")
+                .build();
+
+        // When
+        listener.handleGenAIResponse(response, "msg-2");
+
+        // Then
+        verify(documentService, never()).updateGenAIResult(any(), anyString());
+    }
+
+    private static OcrResponseDto ocrResponse(final UUID documentId) {
+        return OcrResponseDto.builder()
+                .documentId(documentId.toString())
+                .status("completed")
+                .ocrText("OCR text")
+                .build();
+    }
+}
@@ -5,9 +5,12 @@ import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 
+import java.io.ByteArrayInputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +22,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.containers.RabbitMQContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.junit.jupiter.Container;
@@ -29,6 +33,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import at.technikum.restapi.persistence.model.Document;
 import at.technikum.restapi.persistence.repository.DocumentRepository;
 import at.technikum.restapi.service.DocumentSearchService;
+import at.technikum.restapi.service.EmbeddingIndexer;
 import at.technikum.restapi.service.messaging.dto.GenAIRequestDto;
 import at.technikum.restapi.service.messaging.dto.GenAIResponseDto;
 import at.technikum.restapi.service.messaging.dto.OcrRequestDto;
@@ -67,9 +72,15 @@ class RabbitMQIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @MockitoBean
     private DocumentSearchService documentSearchService;
 
+    @MockitoBean
+    private EmbeddingIndexer embeddingIndexer;
+
     private Document testDocument;
 
     @BeforeEach
@@ -143,6 +154,30 @@ class RabbitMQIntegrationTest {
         assertThat(genAIRequest.ocrText()).isEqualTo("This is extracted OCR text");
     }
 
+    @Test
+    void testPublishDocumentForGenAI_largeTextIsCompressed() throws Exception {
+        // Given - OCR text above the compression threshold but below the claim-check threshold
+        String ocrText = "Invoice line item with amount and tax. ".repeat(1000);
+        testDocument.setOcrText(ocrText);
+
+        // When
+        documentPublisher.publishDocumentForGenAI(testDocument);
+
+        // Then
+        Message message = rabbitTemplate.receive("documents.genai.processing", 5000);
+        assertThat(message).isNotNull();
+        assertThat(message.getMessageProperties().getContentEncoding()).startsWith("gzip");
+        assertThat(message.getBody().length).isLessThan(ocrText.length() / 10);
+
+        byte[] json;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(message.getBody()))) {
+            json = in.readAllBytes();
+        }
+        GenAIRequestDto genAIRequest = objectMapper.readValue(json, GenAIRequestDto.class);
+        assertThat(genAIRequest.ocrText()).isEqualTo(ocrText);
+        assertThat(genAIRequest.ocrTextObjectKey()).isNull();
+    }
+
     // ========== Consumer Tests (Workers -> REST API) ==========
 
     @Test
@@ -162,7 +197,7 @@ class RabbitMQIntegrationTest {
 
         // Then - wait for listener to process and verify database update
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            Document updated = documentRepository.findById(testDocument.getId()).orElseThrow();
+            Document updated = loadDocument(testDocument.getId());
             assertThat(updated.getOcrText()).isEqualTo("Extracted text from OCR worker");
             assertThat(updated.getProcessingStatus()).isEqualTo(Document.ProcessingStatus.OCR_COMPLETED);
             assertThat(updated.getOcrProcessedAt()).isNotNull();
@@ -187,7 +222,7 @@ class RabbitMQIntegrationTest {
 
         // Then - verify error was recorded in database
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            Document updated = documentRepository.findById(testDocument.getId()).orElseThrow();
+            Document updated = loadDocument(testDocument.getId());
             assertThat(updated.getProcessingStatus()).isEqualTo(Document.ProcessingStatus.OCR_FAILED);
             assertThat(updated.getProcessingError()).isEqualTo("OCR processing failed: Unsupported file format");
         });
@@ -210,7 +245,7 @@ class RabbitMQIntegrationTest {
 
         // Then - should be marked as failed
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            Document updated = documentRepository.findById(testDocument.getId()).orElseThrow();
+            Document updated = loadDocument(testDocument.getId());
             assertThat(updated.getProcessingStatus()).isEqualTo(Document.ProcessingStatus.OCR_FAILED);
             assertThat(updated.getProcessingError()).isEqualTo("No OCR text or reference provided");
         });
@@ -237,7 +272,7 @@ class RabbitMQIntegrationTest {
 
         // Then - verify document is fully processed
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            Document updated = documentRepository.findById(testDocument.getId()).orElseThrow();
+            Document updated = loadDocument(testDocument.getId());
             assertThat(updated.getSummaryText()).isEqualTo("AI-generated summary of the document");
             assertThat(updated.getProcessingStatus()).isEqualTo(Document.ProcessingStatus.COMPLETED);
             assertThat(updated.getGenaiProcessedAt()).isNotNull();
@@ -266,7 +301,7 @@ class RabbitMQIntegrationTest {
 
         // Then - verify error was recorded
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            Document updated = documentRepository.findById(testDocument.getId()).orElseThrow();
+            Document updated = loadDocument(testDocument.getId());
             assertThat(updated.getProcessingStatus()).isEqualTo(Document.ProcessingStatus.GENAI_FAILED);
             assertThat(updated.getProcessingError()).isEqualTo("GenAI processing failed: API rate limit exceeded");
         });
@@ -292,7 +327,7 @@ class RabbitMQIntegrationTest {
 
         // Then - should be marked as failed
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            Document updated = documentRepository.findById(testDocument.getId()).orElseThrow();
+            Document updated = loadDocument(testDocument.getId());
             assertThat(updated.getProcessingStatus()).isEqualTo(Document.ProcessingStatus.GENAI_FAILED);
             assertThat(updated.getProcessingError()).isEqualTo("No summary text generated");
         });
@@ -334,7 +369,7 @@ class RabbitMQIntegrationTest {
 
         // Wait for OCR processing to complete and GenAI request to be published
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            Document updated = documentRepository.findById(document.getId()).orElseThrow();
+            Document updated = loadDocument(document.getId());
             assertThat(updated.getProcessingStatus()).isEqualTo(Document.ProcessingStatus.OCR_COMPLETED);
             assertThat(updated.getOcrText()).isNotNull();
         });
@@ -361,7 +396,7 @@ class RabbitMQIntegrationTest {
 
         // Verify final state
         await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
-            Document finalDoc = documentRepository.findById(document.getId()).orElseThrow();
+            Document finalDoc = loadDocument(document.getId());
             assertThat(finalDoc.getProcessingStatus()).isEqualTo(Document.ProcessingStatus.COMPLETED);
             assertThat(finalDoc.getOcrText()).isEqualTo("Extracted text from complete flow");
             assertThat(finalDoc.getSummaryText()).isEqualTo("AI summary from complete flow");
@@ -398,7 +433,7 @@ class RabbitMQIntegrationTest {
 
         // Wait for processing
         await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
-            Document updated = documentRepository.findById(document.getId()).orElseThrow();
+            Document updated = loadDocument(document.getId());
             assertThat(updated.getProcessingStatus()).isEqualTo(Document.ProcessingStatus.OCR_FAILED);
             assertThat(updated.getProcessingError()).isEqualTo("File is corrupted");
         });
@@ -472,4 +507,16 @@ class RabbitMQIntegrationTest {
 
         assertThat(deserialized).isEqualTo(original);
     }
+
+    // The text columns are lazy (bytecode enhanced), so read them while the session is open
+    private Document loadDocument(final UUID id) {
+        return transactionTemplate.execute(status -> {
+            final Document document = documentRepository.findById(id).orElseThrow();
+            // Calling the getters triggers the lazy loads
+            document.getOcrText();
+            document.getSummaryText();
+            document.getProcessingError();
+            return document;
+        });
+    }
 }
@@ -0,0 +1,140 @@
+package at.technikum.restapi.service.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+
+import at.technikum.restapi.config.RabbitConfig;
+import at.technikum.restapi.service.exception.DocumentNotFoundException;
+import at.technikum.restapi.service.exception.DocumentProcessingException;
+import at.technikum.restapi.service.messaging.listener.ResponseRetryRecoverer;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ResponseRetryRecovererTest {
+
+    private static final String QUEUE = "documents.ocr.processing.response";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitConfig rabbitConfig;
+
+    @InjectMocks
+    private ResponseRetryRecoverer recoverer;
+
+    @BeforeEach
+    void setUp() {
+        when(rabbitConfig.getResponseRetryMaxAttempts()).thenReturn(3);
+        when(rabbitConfig.getResponseRetryInitialDelayMs()).thenReturn(1000L);
+        when(rabbitConfig.getResponseRetryMaxDelayMs()).thenReturn(60000L);
+        when(rabbitConfig.getDeadLetterExchange()).thenReturn("documents.operations.dlx");
+    }
+
+    @Test
+    void testTransientFailure_isRequeuedWithBackoff() {
+        // Given
+        final Message message = message(null);
+
+        // When
+        recoverer.recover(message, failure(new DocumentProcessingException("Database unavailable")));
+
+        // Then
+        final ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(""), eq(QUEUE + ".retry.1000"), captor.capture());
+        final MessageProperties properties = captor.getValue().getMessageProperties();
+        assertEquals(1, (int) properties.getHeader(ResponseRetryRecoverer.RETRY_COUNT_HEADER));
+        assertNull(properties.getExpiration());
+    }
+
+    @Test
+    void testTransientFailure_backoffGrowsExponentially() {
+        // Given - second failure of a message that was already retried once
+        final Message message = message(1);
+
+        // When
+        recoverer.recover(message, failure(new DocumentProcessingException("Elasticsearch timeout")));
+
+        // Then
+        final ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(""), eq(QUEUE + ".retry.2000"), captor.capture());
+        assertEquals(2, (int) captor.getValue().getMessageProperties()
+                .getHeader(ResponseRetryRecoverer.RETRY_COUNT_HEADER));
+    }
+
+    @Test
+    void testRetriesExhausted_isDeadLettered() {
+        // Given
+        final Message message = message(3);
+
+        // When
+        recoverer.recover(message, failure(new DocumentProcessingException("Still failing")));
+
+        // Then
+        verify(rabbitTemplate).send(eq("documents.operations.dlx"), eq(QUEUE), any(Message.class));
+        verify(rabbitTemplate, never()).send(eq(""), anyString(), any(Message.class));
+        assertNull(message.getMessageProperties().getExpiration());
+        assertEquals(QUEUE, message.getMessageProperties().getHeader(ResponseRetryRecoverer.ORIGINAL_QUEUE_HEADER));
+    }
+
+    @Test
+    void testPoisonMessage_isDeadLetteredImmediately() {
+        // Given
+        final Message message = message(null);
+
+        // When
+        recoverer.recover(message, failure(new AmqpRejectAndDontRequeueException("Invalid document ID")));
+
+        // Then
+        verify(rabbitTemplate).send(eq("documents.operations.dlx"), eq(QUEUE), any(Message.class));
+        verify(rabbitTemplate, never()).send(eq(""), anyString(), any(Message.class));
+    }
+
+    @Test
+    void testUnknownDocument_isDeadLetteredImmediately() {
+        // Given
+        final Message message = message(null);
+
+        // When
+        recoverer.recover(message, failure(new DocumentNotFoundException(UUID.randomUUID())));
+
+        // Then
+        verify(rabbitTemplate).send(eq("documents.operations.dlx"), eq(QUEUE), any(Message.class));
+    }
+
+    private static Message message(final Integer retryCount) {
+        final MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(QUEUE);
+        if (retryCount != null) {
+            properties.setHeader(ResponseRetryRecoverer.RETRY_COUNT_HEADER, retryCount);
+        }
+        return new Message("{}".getBytes(), properties);
+    }
+
+    private static Throwable failure(final Throwable cause) {
+        return new ListenerExecutionFailedException("Listener threw exception", cause);
+    }
+}
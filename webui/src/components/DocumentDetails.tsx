@@ -3,7 +3,7 @@ import { useParams, useNavigate, useLocation } from "react-router-dom";
 import ReactMarkdown from "react-markdown";
 import {
   getDocumentById,
-  getProcessingStatus,
+  subscribeToProcessingStatus,
   updateDocument,
   deleteDocument,
   downloadDocument,
@@ -66,35 +66,30 @@ export default function DocumentDetails() {
     else if (cats) setAvailableCategories(cats);
   }
 
-  // Poll status if document is still processing
-  useEffect(() => {
-    if (!id || !processingStatus) return;
-    if (processingStatus === "COMPLETED" || processingStatus === "OCR_FAILED" || processingStatus === "GENAI_FAILED") return;
-
-    const pollInterval = setInterval(async () => {
-      const [status, err] = await tryCatch(getProcessingStatus(id));
-      if (err) {
-        console.error("Failed to fetch processing status:", err);
-        return;
-      }
+  // Follow status changes pushed by the server while the document is still processing
+  const isProcessing = processingStatus !== null &&
+    processingStatus !== "COMPLETED" && processingStatus !== "OCR_FAILED" && processingStatus !== "GENAI_FAILED";
 
-      if (status) {
-        setProcessingStatus(status.processingStatus);
-
-        // If completed or failed, reload full document to get results
-        if (status.processingStatus === "COMPLETED" || 
-            status.processingStatus === "OCR_FAILED" || 
-            status.processingStatus === "GENAI_FAILED") {
-          const [doc, docErr] = await tryCatch(getDocumentById(id));
-          if (!docErr && doc) {
-            setDocument(doc);
-          }
+  useEffect(() => {
+    if (!id || !isProcessing) return;
+
+    const unsubscribe = subscribeToProcessingStatus([id], async (status) => {
+      setProcessingStatus(status.processingStatus);
+
+      // If completed or failed, reload full document to get results
+      if (status.processingStatus === "COMPLETED" ||
+          status.processingStatus === "OCR_FAILED" ||
+          status.processingStatus === "GENAI_FAILED") {
+        unsubscribe();
+        const [doc, docErr] = await tryCatch(getDocumentById(id));
+        if (!docErr && doc) {
+          setDocument(doc);
         }
       }
-    }, 3000); // Poll every 3 seconds
+    });
 
-    return () => clearInterval(pollInterval);
-  }, [id, processingStatus]);
+    return unsubscribe;
+  }, [id, isProcessing]);
 
   const handleStartEdit = () => {
     setIsEditingTitle(true);
@@ -1,4 +1,8 @@
-import { type FormEvent } from "react";
+import { type FormEvent, useEffect, useState } from "react";
+import { suggest } from "../lib/documentService";
+
+// Wait for a short typing pause before asking for suggestions
+const SUGGEST_DELAY_MS = 150;
 
 export function SearchBar({
   value,
@@ -9,6 +13,26 @@ export function SearchBar({
   onChange: (v: string) => void;
   onSubmit?: () => void;
 }) {
+  const [suggestions, setSuggestions] = useState<string[]>([]);
+
+  useEffect(() => {
+    const prefix = value.trim();
+    if (prefix.length < 2) {
+      setSuggestions([]);
+      return;
+    }
+    const controller = new AbortController();
+    const timer = setTimeout(() => {
+      suggest(prefix, controller.signal)
+        .then(setSuggestions)
+        .catch(() => setSuggestions([]));
+    }, SUGGEST_DELAY_MS);
+    return () => {
+      clearTimeout(timer);
+      controller.abort();
+    };
+  }, [value]);
+
   function handleSubmit(e: FormEvent) {
     e.preventDefault();
     onSubmit?.();
@@ -21,8 +45,15 @@ export function SearchBar({
         value={value}
         onChange={(e) => onChange(e.target.value)}
         placeholder="Search documents…"
+        list="search-suggestions"
+        autoComplete="off"
         className="border rounded-md px-3 py-1 text-sm flex-1 sm:w-64 dark:bg-gray-700 dark:text-white dark:border-gray-600"
       />
+      <datalist id="search-suggestions">
+        {suggestions.map((s) => (
+          <option key={s} value={s} />
+        ))}
+      </datalist>
 
       <button
         type="submit"
@@ -2,6 +2,7 @@ import type {
   DocumentDetailDto,
   DocumentDto,
   DocumentSummaryDto,
+  WorkerStatusDto,
 } from "./types";
 
 // GET all documents
@@ -83,16 +84,29 @@ export async function deleteDocument(id: string): Promise<void> {
 }
 
 // GET processing status
-export async function getProcessingStatus(id: string): Promise<{
-  id: string;
-  processingStatus: string;
-  processingError?: string;
-}> {
+export async function getProcessingStatus(id: string): Promise<WorkerStatusDto> {
   const res = await fetch(`/api/v1/documents/${id}/status`);
   if (!res.ok) throw new Error(`HTTP ${res.status}`);
   return res.json();
 }
 
+// Subscribe to processing status updates (Server-Sent Events), returns an unsubscribe function
+export function subscribeToProcessingStatus(
+  ids: string[],
+  onStatus: (status: WorkerStatusDto) => void,
+): () => void {
+  const params = ids.map(id => `ids=${encodeURIComponent(id)}`).join("&");
+  const source = new EventSource(`/api/v1/documents/status/stream?${params}`);
+
+  source.addEventListener("status", (event) => {
+    onStatus(JSON.parse((event as MessageEvent<string>).data) as WorkerStatusDto);
+  });
+  // EventSource reconnects on its own, the server resends the current status on reconnect
+  source.onerror = (err) => console.error("Status stream error:", err);
+
+  return () => source.close();
+}
+
 // Download document (handles both streaming and presigned URLs)
 export async function downloadDocument(
   id: string,
@@ -146,3 +160,9 @@ export async function searchDocuments(query: string, categories?: string[]): Pro
   if (!res.ok) throw new Error(`Search failed: HTTP ${res.status}`);
   return res.json() as Promise<DocumentSummaryDto[]>;
 }
+
+export async function suggest(prefix: string, signal?: AbortSignal): Promise<string[]> {
+  const res = await fetch(`/api/v1/documents/search/suggest?prefix=${encodeURIComponent(prefix)}`, { signal });
+  if (!res.ok) throw new Error(`Suggest failed: HTTP ${res.status}`);
+  return res.json() as Promise<string[]>;
+}
@@ -36,6 +36,13 @@ export type DocumentDetailDto = DocumentSummaryDto & {
   genaiProcessedAt?: string;
 };
 
+// Pushed by the processing status stream
+export type WorkerStatusDto = {
+  id: string;
+  processingStatus: ProcessingStatus;
+  processingError?: string;
+};
+
 type SuccessResult<T> = readonly [T, null];
 
 type ErrorResult<E = Error> = readonly [null, E];
@@ -38,10 +38,11 @@ class GenAIMessageHandler(AbstractMessageHandler[GenAIRequestDto, GenAIResponseD
             logger.error("Missing required field: document_id")
             return self._create_error_response("unknown", "Missing required field: document_id")
 
+        # Get OCR text (either inline or from MinIO)
+        ocr_text = message.get("ocr_text")
+        ocr_text_object_key = message.get("ocr_text_object_key")
+
         try:
-            # Get OCR text (either inline or from MinIO)
-            ocr_text = message.get("ocr_text")
-            ocr_text_object_key = message.get("ocr_text_object_key")
 
             if ocr_text:
                 # Text was sent inline
@@ -87,3 +88,7 @@ class GenAIMessageHandler(AbstractMessageHandler[GenAIRequestDto, GenAIResponseD
             error_msg = f"GenAI processing failed: {str(e)}"
             logger.error(f"Failed processing document {doc_id}: {error_msg}", exc_info=True)
             return self._create_error_response(doc_id, error_msg)
+        finally:
+            # Claim-check objects are single use; the REST API re-uploads on republish
+            if ocr_text_object_key:
+                self.minio.delete_object(self.minio.ocr_results_bucket, ocr_text_object_key)
@@ -107,9 +107,46 @@ def test_process_message_with_minio_ocr_text():
     assert response["status"] == "completed"
     assert response["worker"] == "genai"
     minio_client.download_file.assert_called_once()
+    minio_client.delete_object.assert_called_once_with("ocr-text", "ocr/123.txt")
     genai_service.summarize_text.assert_called_once()
 
 
+def test_handle_message_with_gzip_body():
+    """Test that gzip-compressed request bodies are inflated before parsing."""
+    import gzip
+    import json
+
+    from src.config import GenAIConfig
+    from src.genAI_service import GenAIService
+    from src.message_handler import GenAIMessageHandler
+
+    # Mock dependencies
+    rabbitmq_client = Mock()
+    minio_client = Mock()
+
+    genai_service = Mock(spec=GenAIService)
+    genai_service.summarize_text.return_value = "This is a summary."
+
+    handler = GenAIMessageHandler(
+        rabbitmq_client=rabbitmq_client,
+        minio_client=minio_client,
+        genai_service=genai_service,
+        config=GenAIConfig(),
+    )
+
+    channel = Mock()
+    method = Mock(delivery_tag=1)
+    properties = Mock(content_encoding="gzip:UTF-8")
+    body = gzip.compress(json.dumps({"document_id": "123", "ocr_text": "Compressed text"}).encode())
+
+    handler.handle_message(channel, method, properties, body)
+
+    # Verify
+    genai_service.summarize_text.assert_called_once_with("Compressed text")
+    rabbitmq_client.publish_response.assert_called_once()
+    channel.basic_ack.assert_called_once_with(delivery_tag=1)
+
+
 def test_process_message_missing_ocr_text():
     """Test processing a message without OCR text."""
     from src.config import GenAIConfig
@@ -1,6 +1,5 @@
 """Abstract handler for processing messages"""
 
-import json
 import logging
 from abc import ABC, abstractmethod
 from typing import Any, Generic, TypeVar
@@ -8,6 +7,7 @@ from typing import Any, Generic, TypeVar
 from pika.adapters.blocking_connection import BlockingChannel
 
 from .models import AbstractRequestDto, AbstractResponseDto
+from .wire_format import decode
 
 TRequest = TypeVar("TRequest", bound=AbstractRequestDto)
 TResponse = TypeVar("TResponse", bound=AbstractResponseDto)
@@ -66,8 +66,12 @@ class AbstractMessageHandler(ABC, Generic[TRequest, TResponse]):
             body: Message body
         """
         try:
-            # Parse message
-            message = json.loads(body.decode())
+            # Parse message (JSON or CBOR, large bodies gzip-compressed)
+            message = decode(
+                body,
+                getattr(properties, "content_type", None),
+                getattr(properties, "content_encoding", None),
+            )
             logger.info(f"Received message: {message}")
 
             # Process message
@@ -19,6 +19,12 @@ class SharedConfig:
     RABBITMQ_ROUTING_KEY_REQUEST = os.getenv("RABBITMQ_ROUTING_KEY_REQUEST", "documents.request")
     RABBITMQ_ROUTING_KEY_RESPONSE = os.getenv("RABBITMQ_ROUTING_KEY_RESPONSE", "documents.response")
 
+    # Message bodies of at least this size are sent gzip-compressed (same default as the REST API)
+    RABBITMQ_COMPRESS_MIN_BYTES = int(os.getenv("RABBITMQ_COMPRESS_MIN_BYTES", "16384"))
+
+    # Wire format of published messages: json or cbor (both are accepted on receive)
+    RABBITMQ_WIRE_FORMAT = os.getenv("RABBITMQ_WIRE_FORMAT", "json")
+
     # MinIO Connection
     MINIO_ENDPOINT = os.getenv("MINIO_ENDPOINT", "localhost:9000")
     MINIO_ACCESS_KEY = os.getenv("MINIO_ACCESS_KEY", "minioadmin")
@@ -95,6 +95,20 @@ class MinioClient:
             logger.error(f"Failed to upload text to {object_key}: {e}")
             raise
 
+    def delete_object(self, bucket: str, object_key: str) -> None:
+        """
+        Delete an object from MinIO. Failures are logged, not raised.
+
+        Args:
+            bucket: Bucket name
+            object_key: Object key to delete
+        """
+        try:
+            self.client.remove_object(bucket, object_key)
+            logger.info(f"Deleted {object_key} from bucket {bucket}")
+        except S3Error as e:
+            logger.warning(f"Failed to delete {object_key} from {bucket}: {e}")
+
     def file_exists(self, bucket: str, object_key: str) -> bool:
         """Check if a file exists in MinIO"""
         try:
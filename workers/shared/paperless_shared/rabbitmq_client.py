@@ -1,6 +1,6 @@
 """RabbitMQ client for connection and messaging"""
 
-import json
+import uuid
 from collections.abc import Callable
 from logging import getLogger
 from typing import Any
@@ -9,6 +9,7 @@ import pika
 from pika.adapters.blocking_connection import BlockingChannel, BlockingConnection
 
 from .config import SharedConfig
+from .wire_format import encode
 
 logger = getLogger(__name__)
 
@@ -93,12 +94,20 @@ class RabbitMQClient:
             logger.error("Cannot publish: not connected")
             return
 
+        body, content_type, content_encoding = encode(
+            response, self.config.RABBITMQ_WIRE_FORMAT, self.config.RABBITMQ_COMPRESS_MIN_BYTES
+        )
+
         self.channel.basic_publish(
             exchange=self.config.RABBITMQ_EXCHANGE,
             routing_key=self.config.RABBITMQ_ROUTING_KEY_RESPONSE,
-            body=json.dumps(response),
+            body=body,
             properties=pika.BasicProperties(
-                delivery_mode=2, content_type="application/json"  # Persistent
+                delivery_mode=2,  # Persistent
+                content_type=content_type,
+                content_encoding=content_encoding,
+                # Lets the REST API recognize and skip redeliveries of this response
+                message_id=str(uuid.uuid4()),
             ),
         )
         logger.info(f"Sent response for document {response.get('document_id')}")
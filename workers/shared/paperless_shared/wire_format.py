@@ -0,0 +1,60 @@
+"""Message body encoding shared with the REST API
+
+Bodies are JSON or CBOR (declared via content_type) and optionally gzip-compressed
+(declared via content_encoding). Both formats carry the same field names as the DTOs.
+"""
+
+import gzip
+import json
+from typing import Any
+
+import cbor2
+
+CONTENT_TYPE_JSON = "application/json"
+CONTENT_TYPE_CBOR = "application/cbor"
+
+_CONTENT_TYPES = {"json": CONTENT_TYPE_JSON, "cbor": CONTENT_TYPE_CBOR}
+
+
+def encode(
+    payload: dict[str, Any], wire_format: str, compress_min_bytes: int
+) -> tuple[bytes, str, str | None]:
+    """
+    Serialize a message body
+
+    Args:
+        payload: Message fields
+        wire_format: "json" or "cbor"
+        compress_min_bytes: Bodies of at least this size are gzip-compressed
+
+    Returns:
+        Body, content type and content encoding (None if uncompressed)
+    """
+    content_type = _CONTENT_TYPES.get(wire_format.lower())
+    if content_type is None:
+        raise ValueError(f"Unsupported wire format: {wire_format}")
+
+    if content_type == CONTENT_TYPE_CBOR:
+        body = cbor2.dumps(payload)
+    else:
+        body = json.dumps(payload).encode("utf-8")
+
+    if len(body) < compress_min_bytes:
+        return body, content_type, None
+
+    # Level 1 like the REST API's GZipPostProcessor: most of the saving, little CPU
+    return gzip.compress(body, compresslevel=1), content_type, "gzip:UTF-8"
+
+
+def decode(body: bytes, content_type: str | None, content_encoding: str | None) -> Any:
+    """
+    Deserialize a message body according to its content type and encoding
+
+    Messages without a content type are treated as JSON.
+    """
+    if (content_encoding or "").split(":")[0] == "gzip":
+        body = gzip.decompress(body)
+
+    if content_type == CONTENT_TYPE_CBOR:
+        return cbor2.loads(body)
+    return json.loads(body.decode("utf-8"))
@@ -1,6 +1,8 @@
 """Tests for RabbitMQ client."""
 
-from unittest.mock import MagicMock, Mock, patch
+import gzip
+import json
+from unittest.mock import ANY, MagicMock, Mock, patch
 
 from paperless_shared.config import SharedConfig
 from paperless_shared.rabbitmq_client import RabbitMQClient
@@ -75,6 +77,8 @@ def test_rabbitmq_publish_response(mock_pika):
     mock_config.RABBITMQ_PASSWORD = "guest"
     mock_config.RABBITMQ_EXCHANGE = "test_exchange"
     mock_config.RABBITMQ_ROUTING_KEY_RESPONSE = "test.response"
+    mock_config.RABBITMQ_COMPRESS_MIN_BYTES = 16384
+    mock_config.RABBITMQ_WIRE_FORMAT = "json"
 
     # Mock the connection
     mock_connection = MagicMock()
@@ -95,6 +99,39 @@ def test_rabbitmq_publish_response(mock_pika):
     call_kwargs = mock_channel.basic_publish.call_args[1]
     assert call_kwargs["exchange"] == "test_exchange"
     assert call_kwargs["routing_key"] == "test.response"
+    assert json.loads(call_kwargs["body"]) == response
+    assert mock_pika.BasicProperties.call_args[1]["message_id"]
+
+
+@patch("paperless_shared.rabbitmq_client.pika")
+def test_rabbitmq_publish_large_response_compressed(mock_pika):
+    """Test that large responses are gzip-compressed and declared via content encoding."""
+    # Mock config
+    mock_config = Mock(spec=SharedConfig)
+    mock_config.RABBITMQ_EXCHANGE = "test_exchange"
+    mock_config.RABBITMQ_ROUTING_KEY_RESPONSE = "test.response"
+    mock_config.RABBITMQ_COMPRESS_MIN_BYTES = 1024
+    mock_config.RABBITMQ_WIRE_FORMAT = "json"
+
+    # Create client with mocked channel
+    mock_channel = MagicMock()
+    client = RabbitMQClient(mock_config)
+    client.channel = mock_channel
+
+    # Publish response
+    response = {"document_id": "123", "status": "completed", "ocr_text": "Rechnung Betrag " * 500}
+    client.publish_response(response)
+
+    # Verify
+    call_kwargs = mock_channel.basic_publish.call_args[1]
+    assert len(call_kwargs["body"]) < 1024
+    assert json.loads(gzip.decompress(call_kwargs["body"])) == response
+    mock_pika.BasicProperties.assert_called_once_with(
+        delivery_mode=2,
+        content_type="application/json",
+        content_encoding="gzip:UTF-8",
+        message_id=ANY,
+    )
 
 
 @patch("paperless_shared.rabbitmq_client.pika")
@@ -0,0 +1,55 @@
+"""Tests for message body encoding."""
+
+import cbor2
+import pytest
+
+from paperless_shared.wire_format import (
+    CONTENT_TYPE_CBOR,
+    CONTENT_TYPE_JSON,
+    decode,
+    encode,
+)
+
+RESPONSE = {"document_id": "123", "status": "completed", "worker": "ocr", "ocr_text": "Rechnung"}
+
+
+def test_encode_json_round_trip():
+    """Test JSON encoding of a small message."""
+    body, content_type, content_encoding = encode(RESPONSE, "json", 16384)
+
+    assert content_type == CONTENT_TYPE_JSON
+    assert content_encoding is None
+    assert decode(body, content_type, content_encoding) == RESPONSE
+
+
+def test_encode_cbor_round_trip():
+    """Test CBOR encoding is smaller than JSON and decodes to the same fields."""
+    body, content_type, content_encoding = encode(RESPONSE, "cbor", 16384)
+    json_body, _, _ = encode(RESPONSE, "json", 16384)
+
+    assert content_type == CONTENT_TYPE_CBOR
+    assert cbor2.loads(body) == RESPONSE
+    assert len(body) < len(json_body)
+    assert decode(body, content_type, content_encoding) == RESPONSE
+
+
+def test_encode_large_body_is_compressed():
+    """Test that bodies above the threshold are gzip-compressed."""
+    payload = {"document_id": "123", "ocr_text": "Rechnung Betrag " * 500}
+
+    body, content_type, content_encoding = encode(payload, "cbor", 1024)
+
+    assert content_encoding == "gzip:UTF-8"
+    assert len(body) < 1024
+    assert decode(body, content_type, content_encoding) == payload
+
+
+def test_decode_without_content_type_is_json():
+    """Test that messages without a content type are parsed as JSON."""
+    assert decode(b'{"document_id": "123"}', None, None) == {"document_id": "123"}
+
+
+def test_encode_unsupported_format():
+    """Test that an unknown wire format is rejected."""
+    with pytest.raises(ValueError):
+        encode(RESPONSE, "xml", 16384)